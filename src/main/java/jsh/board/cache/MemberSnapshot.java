@@ -0,0 +1,15 @@
+package jsh.board.cache;
+
+import jsh.board.domain.Member;
+import jsh.board.domain.Role;
+
+public record MemberSnapshot(
+        Long id,
+        String email,
+        Role role,
+        long authVersion
+) {
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member.getId(), member.getEmail(), member.getRole(), member.getAuthVersion());
+    }
+}
@@ -0,0 +1,111 @@
+package jsh.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jsh.board.domain.MemberAuthChange;
+import jsh.board.jwt.JwtProperties;
+import jsh.board.repository.MemberAuthChangeRepository;
+import jsh.board.support.ChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+* 권한이 바뀐 회원의 최신 스냅샷 (회원 ID -> 스냅샷)
+* 토큰의 ver claim이 스냅샷의 authVersion보다 낮으면 토큰에 담긴 권한 대신 스냅샷을 사용합니다.
+* 변경 이전에 발급된 access token은 유효기간이 지나면 모두 만료되므로, 그 기간만 보관하면 충분합니다.
+* 권한이 바뀌지 않은 회원은 여기에 없고, 인증은 claim만으로 끝납니다.
+* 변경은 member_auth_change 테이블에도 기록되어, 다른 인스턴스는 주기적으로 새 행만 읽어 반영합니다. (ChangeFeed)
+*/
+@Slf4j
+@Component
+public class MemberSnapshotCache {
+
+    private final MemberAuthChangeRepository memberAuthChangeRepository;
+    private final Clock clock;
+    private final Duration accessTokenValidity;
+    private final Cache<Long, MemberSnapshot> cache;
+    private final ChangeFeed<MemberAuthChange> changes;
+
+    public MemberSnapshotCache(MemberAuthChangeRepository memberAuthChangeRepository, Clock clock,
+                               JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.memberAuthChangeRepository = memberAuthChangeRepository;
+        this.clock = clock;
+        this.accessTokenValidity = jwtProperties.accessTokenValidity();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenValidity)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member_snapshot");
+        this.changes = new ChangeFeed<>(
+                () -> memberAuthChangeRepository.findByExpiresAtAfter(Instant.now(clock)),
+                from -> memberAuthChangeRepository.findByCreatedAtGreaterThanEqualAndExpiresAtAfter(from, Instant.now(clock)),
+                MemberAuthChange::getId, MemberAuthChange::getCreatedAt, clock);
+    }
+
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("Loaded {} member auth changes", cache.estimatedSize());
+    }
+
+    /*
+    * 토큰 버전보다 새로운 스냅샷이 있을 때만 반환합니다.
+    */
+    public MemberSnapshot findNewerThan(Long memberId, long authVersion) {
+        MemberSnapshot snapshot = cache.getIfPresent(memberId);
+        return snapshot != null && snapshot.authVersion() > authVersion ? snapshot : null;
+    }
+
+    /*
+    * 변경 기록은 호출한 트랜잭션에 함께 저장하고, 이 인스턴스의 캐시에는 커밋 이후에 반영합니다.
+    * 더 낮은 버전으로 덮어쓰지 않습니다.
+    */
+    public void update(MemberSnapshot snapshot) {
+        Instant now = Instant.now(clock);
+        memberAuthChangeRepository.save(MemberAuthChange.of(
+                snapshot.id(), snapshot.email(), snapshot.role(), snapshot.authVersion(), now, now.plus(accessTokenValidity)));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(snapshot);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(snapshot);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${board.member-auth.sync-interval-ms}")
+    public void sync() {
+        // 순서와 관계없이 더 높은 버전만 남습니다.
+        for (MemberAuthChange change : changes.poll()) {
+            put(new MemberSnapshot(change.getMemberId(), change.getEmail(), change.getRole(), change.getAuthVersion()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.member-auth.purge-interval-ms}")
+    public void purge() {
+        int deleted = memberAuthChangeRepository.deleteExpired(Instant.now(clock));
+        if (deleted > 0) {
+            log.info("Purged {} expired member auth changes", deleted);
+        }
+    }
+
+    private void put(MemberSnapshot snapshot) {
+        cache.asMap().merge(snapshot.id(), snapshot,
+                (current, updated) -> updated.authVersion() >= current.authVersion() ? updated : current);
+    }
+}
@@ -0,0 +1,123 @@
+package jsh.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jsh.board.dto.PostDto;
+import jsh.board.support.SingleFlight;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+* 게시글 상세 조회 결과(PostDto.Response) 캐시
+* 크기/시간 기준으로 만료되며, hit/miss/eviction 지표는 cache="post" 태그로 Prometheus에 노출됩니다.
+* 아직 반영되지 않은 조회수와 순 방문자 수는 캐시에 담지 않고 조회 시점에 더합니다.
+* DB에 반영된 조회수는 항목 옆에 따로 누적해, flush 때마다 인기 게시글을 캐시에서 내리지 않습니다.
+* 캐시 miss는 SingleFlight로 합쳐서, 같은 게시글에 몰린 요청이 DB 로드 하나만 기다리도록 합니다.
+*/
+@Component
+public class PostCache {
+
+    private final Cache<Long, CachedPost> cache;
+    private final SingleFlight<Long, PostDto.Response> postLoads;
+    // 진행 중인 로드의 표식 - 같은 게시글이 무효화되면 표식을 지워, 그 로드 결과만 캐시에 올리지 않습니다.
+    private final ConcurrentMap<Long, Object> loadTokens = new ConcurrentHashMap<>();
+
+    public PostCache(PostCacheProperties properties,
+                     SingleFlight<Long, PostDto.Response> postLoads,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        this.postLoads = postLoads;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post");
+    }
+
+    public PostDto.Response get(Long postId, Function<Long, PostDto.Response> loader) {
+        CachedPost cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return cached.toResponse();
+        }
+
+        return postLoads.execute(postId, () -> {
+            Object token = new Object();
+            loadTokens.put(postId, token);
+            PostDto.Response loaded;
+            try {
+                loaded = loader.apply(postId);
+            } catch (RuntimeException e) {
+                loadTokens.remove(postId, token);
+                throw e;
+            }
+            // 로드 도중 이 게시글이 무효화됐다면 이미 낡았을 수 있는 결과이므로 캐시에 올리지 않습니다.
+            // 표식 확인과 저장을 같은 키의 compute 안에서 해, 무효화와 엇갈려 낡은 값이 남지 않게 합니다.
+            cache.asMap().compute(postId, (id, current) -> loadTokens.remove(id, token) ? new CachedPost(loaded) : current);
+            return loaded;
+        });
+    }
+
+    /*
+    * 캐시에 있을 때만 반환하며, 로드하지 않고 hit/miss 통계에도 남기지 않습니다.
+    */
+    public PostDto.Response peek(Long postId) {
+        CachedPost cached = cache.policy().getIfPresentQuietly(postId);
+        return cached == null ? null : cached.toResponse();
+    }
+
+    /*
+    * DB에 반영된 조회수 증가분을 캐시 항목에 더합니다. 항목을 다시 쓰지 않으므로 만료 시각은 그대로입니다.
+    * 진행 중인 로드는 증가분이 포함됐는지 알 수 없으므로 표식을 먼저 지워 캐시에 올리지 않습니다.
+    */
+    public void addFlushedViews(Long postId, long views) {
+        loadTokens.remove(postId);
+        CachedPost cached = cache.policy().getIfPresentQuietly(postId);
+        if (cached != null) {
+            cached.flushedViews().add(views);
+        }
+    }
+
+    /*
+    * 트랜잭션 안에서 호출되면 커밋 이후에 제거해, 커밋 전 데이터가 다시 캐시에 올라가지 않도록 합니다.
+    */
+    public void invalidate(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(postId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(postId);
+            }
+        });
+    }
+
+    private void evict(Long postId) {
+        cache.asMap().compute(postId, (id, current) -> {
+            loadTokens.remove(id);
+            return null;
+        });
+    }
+
+    private record CachedPost(PostDto.Response response, LongAdder flushedViews) {
+
+        CachedPost(PostDto.Response response) {
+            this(response, new LongAdder());
+        }
+
+        PostDto.Response toResponse() {
+            long views = flushedViews.sum();
+            return views == 0 ? response : response.plusViews(views);
+        }
+    }
+}
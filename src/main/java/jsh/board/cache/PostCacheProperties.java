@@ -0,0 +1,12 @@
+package jsh.board.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.cache.post")
+public record PostCacheProperties(
+        long maximumSize,
+        Duration expireAfterWrite
+) {
+}
@@ -0,0 +1,37 @@
+package jsh.board.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+* path 컬럼이 추가되기 전의 댓글은 모두 최상위 댓글이므로, 자신의 ID 구간 하나를 경로로 채웁니다.
+* Comment.pathSegment와 같은 형식(8자리 36진수 + "/")입니다.
+* 이후 생성된 댓글은 항상 경로를 갖고 UPDATE 한 문장으로 모두 채워지므로, 가장 오래된 댓글의 경로가 비어 있을 때만 실행됩니다.
+* 이미 채워졌다면 기동 시 PK 순서로 한 행만 읽고, 테이블을 훑거나 lock을 잡지 않습니다.
+*/
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class CommentPathInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void backfillPaths() {
+        List<String> oldest = jdbcTemplate.queryForList("SELECT path FROM comment ORDER BY id LIMIT 1", String.class);
+        if (oldest.isEmpty() || !oldest.get(0).isEmpty()) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update(
+                "UPDATE comment SET path = CONCAT(LPAD(CONV(id, 10, 36), 8, '0'), '/'), depth = 0 WHERE path = ''");
+        log.info("Backfilled path of {} comments", updated);
+    }
+}
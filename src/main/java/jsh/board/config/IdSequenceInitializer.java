@@ -0,0 +1,39 @@
+package jsh.board.config;
+
+import jakarta.annotation.PostConstruct;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+* IDENTITY로 발급된 기존 ID 뒤에서 pooled 시퀀스가 시작하도록 맞춥니다.
+* pooled optimizer는 시퀀스 값 v를 받으면 (v - allocationSize, v] 구간을 쓰므로, max(id) + allocationSize 이상이면 겹치지 않습니다.
+* GREATEST로 올리기만 하므로 여러 인스턴스가 동시에 기동해도 안전합니다.
+* 스키마가 갱신된 뒤, 웹 요청을 받기 전에 실행되도록 entityManagerFactory 이후 초기화합니다.
+*/
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        align("post_seq", "post", Post.ID_ALLOCATION_SIZE);
+        align("comment_seq", "comment", Comment.ID_ALLOCATION_SIZE);
+    }
+
+    private void align(String sequenceTable, String table, int allocationSize) {
+        jdbcTemplate.update("UPDATE " + sequenceTable
+                + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? FROM " + table + "))",
+                allocationSize);
+        Long nextValue = jdbcTemplate.queryForObject("SELECT next_val FROM " + sequenceTable, Long.class);
+        log.info("Aligned {} to {}", sequenceTable, nextValue);
+    }
+}
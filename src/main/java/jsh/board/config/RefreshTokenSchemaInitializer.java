@@ -0,0 +1,59 @@
+package jsh.board.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+* 리프레시 토큰 원문을 저장하던 token 컬럼을 정리합니다. (ddl-auto=update는 컬럼을 지우지 않음)
+* 재발급 API가 없던 시점의 토큰은 쓰인 적이 없으므로 지우고, 회원은 다음 로그인 때 새 토큰을 받습니다.
+* 기존 행 때문에 token_hash 유니크 인덱스 생성이 실패했을 수 있어, 없으면 다시 만듭니다.
+* 회원당 토큰 한 행(@OneToOne)이던 시절의 member_id 유니크 인덱스를 지우고, family가 없던 토큰은 각각 하나의 세션으로 채웁니다.
+*/
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class RefreshTokenSchemaInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        if (count("columns", "column_name = 'token'") > 0) {
+            int deleted = jdbcTemplate.update("DELETE FROM refresh_token");
+            jdbcTemplate.execute("ALTER TABLE refresh_token DROP COLUMN token");
+            log.info("Dropped refresh_token.token and removed {} legacy refresh tokens", deleted);
+        }
+
+        if (count("statistics", "index_name = 'uk_refresh_token_token_hash'") == 0) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX uk_refresh_token_token_hash ON refresh_token (token_hash)");
+            log.info("Created uk_refresh_token_token_hash");
+        }
+
+        List<String> memberUniqueIndexes = jdbcTemplate.queryForList("SELECT DISTINCT index_name FROM information_schema.statistics"
+                + " WHERE table_schema = DATABASE() AND table_name = 'refresh_token' AND column_name = 'member_id' AND non_unique = 0",
+                String.class);
+        for (String index : memberUniqueIndexes) {
+            jdbcTemplate.execute("ALTER TABLE refresh_token DROP INDEX `" + index + "`");
+            log.info("Dropped unique index {} on refresh_token.member_id", index);
+        }
+
+        // family_id 인덱스로 한 건만 확인하므로, 채울 행이 없으면 테이블을 훑지 않습니다.
+        if (!jdbcTemplate.queryForList("SELECT id FROM refresh_token WHERE family_id = '' LIMIT 1", Long.class).isEmpty()) {
+            int updated = jdbcTemplate.update("UPDATE refresh_token SET family_id = UUID() WHERE family_id = ''");
+            log.info("Assigned token families to {} legacy refresh tokens", updated);
+        }
+    }
+
+    private int count(String view, String condition) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema." + view
+                + " WHERE table_schema = DATABASE() AND table_name = 'refresh_token' AND " + condition, Integer.class);
+        return count == null ? 0 : count;
+    }
+}
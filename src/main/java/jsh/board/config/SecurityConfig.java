@@ -3,6 +3,7 @@ package jsh.board.config;
 import jsh.board.jwt.JwtAccessDeniedHandler;
 import jsh.board.jwt.JwtAuthenticationEntryPoint;
 import jsh.board.jwt.JwtAuthenticationFilter;
+import jsh.board.password.PasswordHashingProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,7 +50,12 @@ public class SecurityConfig {
                                 // "/**"는 모든 경로를 의미합니다.
                                 // 모든 경로에 대한 요청을 인증 없이 허용(permitAll)합니다.
                         .requestMatchers("/", "/favicon.ico", "/api/health", "/actuator/**").permitAll()
+                        // 로그아웃은 폐기할 토큰이 있어야 하므로, 아래 /api/auth/** 허용보다 먼저 인증을 요구합니다. (토큰이 없으면 401)
+                        .requestMatchers(HttpMethod.POST, "/api/auth/logout").authenticated()
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs", "/v3/api-docs.yaml", "/v3/api-docs/**").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/api/members/*/role").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/posts/export").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/posts/import").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/posts", "/api/posts/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -59,7 +65,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.bcryptStrength());
     }
 }
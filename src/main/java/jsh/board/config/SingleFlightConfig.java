@@ -0,0 +1,22 @@
+package jsh.board.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jsh.board.dto.CommentDto;
+import jsh.board.dto.PostDto;
+import jsh.board.support.SingleFlight;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<Long, PostDto.Response> postLoads(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("post", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<CommentDto.PageKey, CommentDto.PageResponse> commentLoads(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("comments", meterRegistry);
+    }
+}
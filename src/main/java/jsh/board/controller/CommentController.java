@@ -3,13 +3,15 @@ package jsh.board.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jsh.board.dto.CommentDto;
+import jsh.board.dto.ResourceVersion;
 import jsh.board.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Comment(댓글) API")
 @RestController
@@ -27,22 +29,44 @@ public class CommentController {
 
     @Operation(summary = "댓글 조회")
     @GetMapping
-    public ResponseEntity<List<CommentDto.Response>> getComments(@PathVariable Long id) {
-        List<CommentDto.Response> comments = commentService.getComments(id);
+    public ResponseEntity<CommentDto.PageResponse> getComments(@PathVariable Long id,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "20") int size,
+                                                               WebRequest webRequest) {
+        // 페이지 조회 한 번으로 본문과 검증자를 함께 얻습니다.
+        CommentDto.PageResponse comments = commentService.getComments(id, cursor, size);
+        ResourceVersion version = commentService.getCommentsVersion(comments);
+        if (webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
         return ResponseEntity.ok(comments);
     }
 
+    @Operation(summary = "댓글 실시간 구독 (SSE)")
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long id) {
+        return commentService.subscribe(id);
+    }
+
+    @Operation(summary = "댓글 스레드 조회")
+    @GetMapping("/{commentId}/thread")
+    public ResponseEntity<CommentDto.ThreadPage> getThread(@PathVariable Long id, @PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.getThread(id, commentId));
+    }
+
     @Operation(summary = "댓글 수정")
-    @PutMapping
-    public ResponseEntity<Void> editComment(@PathVariable Long id, @RequestBody CommentDto.editRequest request){
-        commentService.editComment(id, request);
+    @PutMapping("/{commentId}")
+    public ResponseEntity<Void> editComment(@PathVariable Long id, @PathVariable Long commentId,
+                                            @RequestBody CommentDto.editRequest request){
+        commentService.editComment(id, commentId, request);
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "댓글 삭제")
-    @DeleteMapping
-    public ResponseEntity<Void> deleteComment(@PathVariable Long id){
-        commentService.deleteComment(id);
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(@PathVariable Long id, @PathVariable Long commentId){
+        commentService.deleteComment(id, commentId);
         return ResponseEntity.noContent().build();
     }
 }
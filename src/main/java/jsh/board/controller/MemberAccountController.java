@@ -0,0 +1,41 @@
+package jsh.board.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jsh.board.dto.MemberDto;
+import jsh.board.jwt.MemberPrincipal;
+import jsh.board.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Member(회원) API")
+@RestController
+@RequestMapping("/api/members")
+@RequiredArgsConstructor
+public class MemberAccountController {
+
+    private final MemberService memberService;
+
+    @Operation(summary = "내 정보 조회")
+    @GetMapping("/me")
+    public ResponseEntity<MemberDto.Principal> me(@AuthenticationPrincipal MemberPrincipal principal) {
+        return ResponseEntity.ok(MemberDto.Principal.from(principal));
+    }
+
+    @Operation(summary = "비밀번호 변경")
+    @PutMapping("/me/password")
+    public ResponseEntity<Void> changePassword(@AuthenticationPrincipal MemberPrincipal principal,
+                                               @Valid @RequestBody MemberDto.PasswordChangeRequest request) {
+        memberService.changePassword(principal.id(), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "회원 권한 변경 (관리자)")
+    @PutMapping("/{id}/role")
+    public ResponseEntity<MemberDto.Response> changeRole(@PathVariable Long id, @Valid @RequestBody MemberDto.RoleRequest request) {
+        return ResponseEntity.ok(memberService.changeRole(id, request));
+    }
+}
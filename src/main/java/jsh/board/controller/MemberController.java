@@ -4,13 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jsh.board.dto.MemberDto;
+import jsh.board.jwt.MemberPrincipal;
 import jsh.board.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -37,10 +36,17 @@ public class MemberController {
         return ResponseEntity.ok(tokens);
     }
 
+    @Operation(summary = "토큰 재발급")
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh(@Valid @RequestBody MemberDto.RefreshRequest request) {
+        Map<String, String> tokens = memberService.refresh(request);
+        return ResponseEntity.ok(tokens);
+    }
+
     @Operation(summary = "로그아웃")
     @PostMapping("/logout")
-    public ResponseEntity<Void> logOut(@AuthenticationPrincipal UserDetails userDetails) {
-        memberService.logOut(userDetails.getUsername());
+    public ResponseEntity<Void> logOut(@AuthenticationPrincipal MemberPrincipal principal) {
+        memberService.logOut(principal);
         return ResponseEntity.ok().build();
     }
 }
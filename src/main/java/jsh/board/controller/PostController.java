@@ -2,15 +2,27 @@ package jsh.board.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jsh.board.domain.Post;
+import jsh.board.dto.ImportDto;
 import jsh.board.dto.PostDto;
+import jsh.board.dto.ResourceVersion;
+import jsh.board.search.SearchService;
+import jsh.board.service.ExportService;
+import jsh.board.service.ImportService;
 import jsh.board.service.PostService;
+import jsh.board.trending.TrendingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "Post(게시글) API")
@@ -20,6 +32,10 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final SearchService searchService;
+    private final TrendingService trendingService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     // Create post (POST /api/posts)
     @Operation(summary = "게시글 생성")
@@ -29,20 +45,61 @@ public class PostController {
         return new ResponseEntity<>(postId,HttpStatus.CREATED);
     }
 
+    // Search posts (GET /api/posts/search?q=)
+    @Operation(summary = "게시글 검색")
+    @GetMapping("/search")
+    public ResponseEntity<List<PostDto.SummaryResponse>> searchPosts(@RequestParam String q,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(q, size));
+    }
+
+    // Trending posts (GET /api/posts/trending)
+    @Operation(summary = "인기 게시글 조회")
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostDto.TrendingResponse>> getTrendingPosts() {
+        return ResponseEntity.ok(trendingService.getTrending());
+    }
+
+    // Export posts and comments as NDJSON (GET /api/posts/export, ADMIN)
+    @Operation(summary = "게시글/댓글 전체 내보내기 (NDJSON)")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        StreamingResponseBody body = exportService::export;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(body);
+    }
+
+    // Bulk import posts with comments from a JSON array (POST /api/posts/import, ADMIN)
+    @Operation(summary = "게시글 일괄 가져오기")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportDto.Result> importPosts(HttpServletRequest request) throws IOException {
+        // 본문 전체를 DTO 리스트로 바인딩하지 않고 스트리밍으로 읽습니다.
+        ImportDto.Result result = importService.importPosts(request.getInputStream());
+        return new ResponseEntity<>(result, HttpStatus.CREATED);
+    }
+
     // Get post by ID (GET /api/posts/{id})
     @Operation(summary = "게시글 조회 - ID")
     @GetMapping("/{id}")
-    public ResponseEntity<PostDto.Response> findPostById(@PathVariable Long id) {
-        postService.increaseViewCount(id);
+    public ResponseEntity<PostDto.Response> findPostById(@PathVariable Long id, HttpServletRequest request, WebRequest webRequest) {
+        // 검증자는 캐시된 응답으로 계산하므로, 캐시 hit이면 200이든 304든 DB를 거치지 않습니다.
         PostDto.Response postResponse = postService.findPostById(id);
+        ResourceVersion version = postService.getVersion(postResponse);
+        postService.increaseViewCount(id, clientFingerprint(request));
+        if (webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
         return ResponseEntity.ok(postResponse);
     }
 
-    // Get all posts (GET /api/posts)
-    @Operation(summary = "게시글 전체 조회")
+    // Get posts page (GET /api/posts?cursor=&size=)
+    @Operation(summary = "게시글 목록 조회", description = "최신순으로 조회하며, 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<PostDto.Response>> getAllPosts() {
-        List<PostDto.Response> posts = postService.getAllPosts();
+    public ResponseEntity<PostDto.PageResponse> getPosts(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        PostDto.PageResponse posts = postService.getPosts(cursor, size);
         return ResponseEntity.ok(posts);
     }
 
@@ -61,4 +118,8 @@ public class PostController {
         postService.deletePost(id);
         return ResponseEntity.noContent().build();
     }
+
+    private String clientFingerprint(HttpServletRequest request) {
+        return request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+    }
 }
@@ -3,14 +3,28 @@ package jsh.board.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Locale;
+
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_parent_id", columnList = "post_id, parent_id, id"),
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 
+    // Post와 같은 이유로 pooled 시퀀스(comment_seq)를 사용합니다.
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final int MAX_DEPTH = 20;
+    // 경로 한 칸: ID를 8자리 36진수(대문자, 0으로 채움) + "/" - 고정 길이라 문자열 정렬이 ID 정렬과 같습니다.
+    private static final int PATH_SEGMENT_LENGTH = 8;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -24,14 +38,39 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "member_id", nullable = false)
     private Member author;
 
+    // 부모 댓글은 연관관계 대신 ID만 둬서, 트리를 읽을 때 재귀 지연 로딩이 일어나지 않게 합니다.
+    @Column(name = "parent_id", updatable = false)
+    private Long parentId;
+
+    // 루트부터 자신까지의 materialized path - (post_id, path) 인덱스의 prefix 범위 조회 한 번으로 하위 트리를 읽습니다.
+    // 생성 시에는 부모 경로만 담고, 자신의 구간은 ID가 할당된 뒤 INSERT 값에 붙습니다.
+    @GeneratedCommentPath
+    @Column(nullable = false, updatable = false)
+    private String path;
+
+    @Column(nullable = false, updatable = false)
+    private int depth;
+
+    // 직계 답글 수 - 증감 UPDATE로만 바꿉니다.
+    @Column(nullable = false, updatable = false)
+    private int replyCount;
+
     public void update(String content) {
         this.content = content;
     }
 
+    public static String pathSegment(long id) {
+        String digits = Long.toString(id, 36).toUpperCase(Locale.ROOT);
+        return "0".repeat(PATH_SEGMENT_LENGTH - digits.length()) + digits + "/";
+    }
+
     @Builder
-    public Comment(String content, Post post, Member author) {
+    public Comment(String content, Post post, Member author, Comment parent) {
         this.content = content;
         this.post = post;
         this.author = author;
+        this.parentId = parent == null ? null : parent.getId();
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+        this.path = parent == null ? "" : parent.getPath();
     }
 }
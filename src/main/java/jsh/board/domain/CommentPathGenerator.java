@@ -0,0 +1,27 @@
+package jsh.board.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/*
+* 시퀀스 ID는 persist 시점에야 정해지므로, 엔티티를 만들 때는 부모 경로만 넣어 두고
+* Hibernate가 INSERT 값을 모을 때(ID 할당 이후) 자신의 구간을 붙입니다.
+* persist 뒤에 엔티티를 고치면 INSERT 후 UPDATE가 한 번 더 나가고 updatedTime도 바뀌므로 이 방식을 씁니다.
+*/
+public class CommentPathGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        String parentPath = currentValue == null ? "" : (String) currentValue;
+        return parentPath + Comment.pathSegment(((Comment) owner).getId());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,17 @@
+package jsh.board.domain;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+* INSERT 시 부모 경로 뒤에 댓글 자신의 ID 구간을 붙입니다. (CommentPathGenerator)
+*/
+@ValueGenerationType(generatedBy = CommentPathGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface GeneratedCommentPath {
+}
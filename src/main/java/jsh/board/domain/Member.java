@@ -30,14 +30,13 @@ public class Member extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // 권한이 바뀔 때마다 올라가며, 토큰의 ver claim과 비교해 이전에 발급된 토큰의 권한을 무시합니다.
+    @Column(nullable = false)
+    private long authVersion;
+
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();
 
-    public void addPost(Post post) {
-        posts.add(post);
-        post.setAuthor(this);
-    }
-
     public void removePost(Post post) {
         posts.remove(post);
         post.setAuthor(null);
@@ -52,7 +51,10 @@ public class Member extends BaseTimeEntity {
     }
 
     public void updateRole(Role role){
-        this.role = role;
+        if (this.role != role) {
+            this.role = role;
+            this.authVersion++;
+        }
     }
 
     @Builder
@@ -0,0 +1,60 @@
+package jsh.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/*
+* 회원 권한 변경 기록
+* 변경을 처리한 인스턴스뿐 아니라 모든 인스턴스가 이 기록을 읽어 스냅샷 캐시에 반영합니다.
+* expiresAt 이후에는 변경 이전에 발급된 access token이 모두 만료되므로 기록을 지웁니다.
+*/
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_member_auth_change_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_member_auth_change_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberAuthChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Role role;
+
+    @Column(nullable = false)
+    private long authVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    private MemberAuthChange(Long memberId, String email, Role role, long authVersion, Instant createdAt, Instant expiresAt) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
+        this.authVersion = authVersion;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static MemberAuthChange of(Long memberId, String email, Role role, long authVersion,
+                                      Instant createdAt, Instant expiresAt) {
+        return new MemberAuthChange(memberId, email, role, authVersion, createdAt, expiresAt);
+    }
+}
@@ -2,18 +2,31 @@ package jsh.board.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_created_time_id", columnList = "created_time, id"),
+        @Index(name = "idx_post_deleted_time", columnList = "deleted_time")
+})
+// 삭제 표시된 게시글은 조회에서 제외하고, PostPurger가 댓글과 함께 나중에 지웁니다.
+@SQLRestriction("deleted_time is null")
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity{
 
+    // IDENTITY는 INSERT마다 키를 돌려받아야 해서 JDBC batch가 꺼지므로, 50개 단위로 미리 할당받는 pooled 방식을 사용합니다.
+    // (MySQL에서는 post_seq 테이블로 시퀀스를 흉내 내며, 기존 ID와 겹치지 않도록 IdSequenceInitializer가 맞춰 둡니다.)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -23,9 +36,18 @@ public class Post extends BaseTimeEntity{
     @Column(nullable = false)
     private String content;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountService가 증가분 UPDATE로만 반영합니다. (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
     private int viewCount;
 
+    // 댓글 수는 CommentService가 원자적 증감 UPDATE로만 바꾸고, CommentCountReconciler가 주기적으로 실제 값과 맞춥니다.
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    // 삭제 시각 - 벌크 UPDATE로만 기록합니다.
+    @Column(updatable = false)
+    private LocalDateTime deletedTime;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
@@ -0,0 +1,51 @@
+package jsh.board.domain;
+
+import jakarta.persistence.*;
+import jsh.board.support.HyperLogLog;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/*
+* 게시글별 순 방문자 HyperLogLog 레지스터 (고정 4KB)
+*/
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewerSketch implements Persistable<Long> {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false, length = HyperLogLog.REGISTER_COUNT)
+    private byte[] registers;
+
+    @Transient
+    private boolean persisted;
+
+    public PostViewerSketch(Long postId, byte[] registers) {
+        this.postId = postId;
+        this.registers = registers;
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
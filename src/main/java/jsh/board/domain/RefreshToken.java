@@ -8,7 +8,18 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 
+/*
+* 발급한 리프레시 토큰 한 건
+* 로그인할 때마다 새 세션(family)이 시작되고, 재발급한 토큰은 같은 family에 새 행으로 쌓입니다.
+* 교체된 토큰은 rotated로 표시해 만료될 때까지 남겨 두어, 같은 family에서 다시 쓰이면 재사용(탈취 의심)으로 판단합니다.
+*/
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_refresh_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_token_member_id", columnList = "member_id"),
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
@@ -17,25 +28,29 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // 로그인 한 번(기기 하나)에서 이어지는 토큰 묶음
+    @Column(name = "family_id", nullable = false, columnDefinition = "char(36) character set ascii")
+    private String familyId;
+
+    // 토큰 원문 대신 SHA-256 digest(16진수 64자)를 저장합니다. 고정 길이 ASCII라 인덱스가 작고, DB가 유출돼도 토큰으로 쓸 수 없습니다.
+    @Column(name = "token_hash", nullable = false, columnDefinition = "char(64) character set ascii")
+    private String tokenHash;
 
     @Column(nullable = false)
+    private boolean rotated;
+
+    @Column(name = "expiry_date", nullable = false)
     private Instant expiryDate;
 
     @Builder
-    public RefreshToken(Member member, String token, Instant expiryDate) {
+    public RefreshToken(Member member, String familyId, String tokenHash, Instant expiryDate) {
         this.member = member;
-        this.token = token;
-        this.expiryDate = expiryDate;
-    }
-
-    public void updateToken(String token, Instant expiryDate) {
-        this.token = token;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
         this.expiryDate = expiryDate;
     }
 }
@@ -0,0 +1,58 @@
+package jsh.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/*
+* 폐기된 access token 기록
+* jti가 있으면 그 토큰 하나(로그아웃), 없으면 notBefore 이전에 발급된 회원의 모든 토큰(비밀번호 변경)을 거부합니다.
+* expiresAt 이후에는 해당 토큰이 모두 만료되므로 기록을 지웁니다.
+* 다른 인스턴스는 createdAt 기준으로 새 기록을 읽습니다. (이 컬럼이 생기기 전의 기록은 기동 시 전체 로드로만 읽힘)
+*/
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_token_revocation_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_revocation_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(length = 36)
+    private String jti;
+
+    private Instant notBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    private TokenRevocation(Long memberId, String jti, Instant notBefore, Instant createdAt, Instant expiresAt) {
+        this.memberId = memberId;
+        this.jti = jti;
+        this.notBefore = notBefore;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenRevocation token(Long memberId, String jti, Instant createdAt, Instant expiresAt) {
+        return new TokenRevocation(memberId, jti, null, createdAt, expiresAt);
+    }
+
+    public static TokenRevocation member(Long memberId, Instant notBefore, Instant createdAt, Instant expiresAt) {
+        return new TokenRevocation(memberId, null, notBefore, createdAt, expiresAt);
+    }
+}
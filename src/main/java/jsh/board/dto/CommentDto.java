@@ -4,20 +4,34 @@ import jakarta.validation.constraints.NotBlank;
 import jsh.board.domain.Comment;
 import jsh.board.domain.Member;
 import jsh.board.domain.Post;
+import jsh.board.exception.InvalidRequestException;
+import jsh.board.repository.CommentRow;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 
 public class CommentDto {
 
     public record addRequest(
             @NotBlank
-            String content
+            String content,
+
+            // 답글이면 부모 댓글 ID, 최상위 댓글이면 null
+            Long parentId
     ){
-        public Comment toEntity(Post post, Member author){
+        public addRequest(String content){
+            this(content, null);
+        }
+
+        public Comment toEntity(Post post, Member author, Comment parent){
             return Comment.builder()
                     .content(content)
                     .post(post)
                     .author(author)
+                    .parent(parent)
                     .build();
         }
     }
@@ -31,6 +45,7 @@ public class CommentDto {
             Long id,
             String content,
             String author,
+            int replyCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ){
@@ -41,9 +56,92 @@ public class CommentDto {
                     comment.getId(),
                     comment.getContent(),
                     authorName,
+                    comment.getReplyCount(),
                     comment.getCreatedTime(),
                     comment.getUpdatedTime()
             );
         }
+
+        public static Response from(CommentRow row){
+            return new Response(
+                    row.getId(),
+                    row.getContent(),
+                    row.getAuthorName(),
+                    row.getReplyCount(),
+                    row.getCreatedTime(),
+                    row.getUpdatedTime()
+            );
+        }
+    }
+
+    /*
+    * 댓글 트리 노드 - replies는 트리를 조립하는 동안 채워집니다.
+    */
+    public record ThreadResponse(
+            Long id,
+            Long parentId,
+            String content,
+            String author,
+            int depth,
+            int replyCount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<ThreadResponse> replies
+    ){
+        public static ThreadResponse from(CommentRow row){
+            return new ThreadResponse(
+                    row.getId(),
+                    row.getParentId(),
+                    row.getContent(),
+                    row.getAuthorName(),
+                    row.getDepth(),
+                    row.getReplyCount(),
+                    row.getCreatedTime(),
+                    row.getUpdatedTime(),
+                    new ArrayList<>()
+            );
+        }
+    }
+
+    /*
+    * 스레드 조회 결과 - 크기 제한에 걸려 뒤쪽(path 순서) 답글이 빠졌으면 truncated가 true입니다.
+    */
+    public record ThreadPage(
+            ThreadResponse root,
+            boolean truncated
+    ){}
+
+    public record PageResponse(
+            List<Response> comments,
+            String nextCursor,
+            boolean hasNext
+    ){}
+
+    // 같은 페이지 요청을 SingleFlight로 합치기 위한 키
+    public record PageKey(
+            Long postId,
+            long afterId,
+            int size
+    ){}
+
+    /*
+    * 댓글 keyset 커서 - 마지막 댓글 ID를 불투명한 문자열로 인코딩합니다.
+    */
+    public record Cursor(
+            Long id
+    ){
+        public String encode(){
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String value){
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                return new Cursor(Long.parseLong(raw));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+        }
     }
 }
@@ -0,0 +1,64 @@
+package jsh.board.dto;
+
+import jsh.board.domain.Comment;
+import jsh.board.domain.Post;
+
+import java.time.LocalDateTime;
+
+/*
+* NDJSON 내보내기 한 줄 단위 형식 - type으로 게시글/댓글을 구분합니다.
+* 연관 엔티티는 ID만 기록하므로 지연 로딩 프록시를 초기화하지 않습니다.
+*/
+public class ExportDto {
+
+    public static final String POST_TYPE = "post";
+    public static final String COMMENT_TYPE = "comment";
+
+    public record PostLine(
+            String type,
+            Long id,
+            Long authorId,
+            String title,
+            String content,
+            int viewCount,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ){
+        public static PostLine from(Post post){
+            return new PostLine(
+                    POST_TYPE,
+                    post.getId(),
+                    post.getAuthor().getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    post.getViewCount(),
+                    post.getCreatedTime(),
+                    post.getUpdatedTime()
+            );
+        }
+    }
+
+    public record CommentLine(
+            String type,
+            Long id,
+            Long postId,
+            Long parentId,
+            Long authorId,
+            String content,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ){
+        public static CommentLine from(Comment comment){
+            return new CommentLine(
+                    COMMENT_TYPE,
+                    comment.getId(),
+                    comment.getPost().getId(),
+                    comment.getParentId(),
+                    comment.getAuthor().getId(),
+                    comment.getContent(),
+                    comment.getCreatedTime(),
+                    comment.getUpdatedTime()
+            );
+        }
+    }
+}
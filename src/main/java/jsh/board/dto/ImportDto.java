@@ -0,0 +1,63 @@
+package jsh.board.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+
+import java.util.List;
+
+public class ImportDto {
+
+    public record PostRequest(
+            @NotNull
+            Long authorId,
+
+            @NotBlank
+            @Size(max = 200)
+            String title,
+
+            @NotBlank
+            String content,
+
+            List<@Valid CommentRequest> comments
+    ){
+        public Post toEntity(Member author){
+            return Post.builder()
+                    .title(title)
+                    .content(content)
+                    .author(author)
+                    .build();
+        }
+
+        public List<CommentRequest> commentsOrEmpty(){
+            return comments == null ? List.of() : comments;
+        }
+    }
+
+    public record CommentRequest(
+            @NotNull
+            Long authorId,
+
+            @NotBlank
+            String content
+    ){
+        public Comment toEntity(Post post, Member author){
+            return Comment.builder()
+                    .content(content)
+                    .post(post)
+                    .author(author)
+                    .build();
+        }
+    }
+
+    public record Result(
+            long posts,
+            long comments,
+            long elapsedMillis,
+            double rowsPerSecond
+    ){}
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import jsh.board.domain.Member;
 import jsh.board.domain.Role;
+import jsh.board.jwt.MemberPrincipal;
 import lombok.Getter;
 
 @Getter
@@ -52,4 +54,45 @@ public class MemberDto {
             @NotBlank
             String password
     ){}
+
+    public record RefreshRequest(
+            @NotBlank
+            String refreshToken
+    ){}
+
+    public record PasswordChangeRequest(
+            @NotBlank
+            String currentPassword,
+
+            @NotBlank
+            @Size(min = 6)
+            String newPassword
+    ){}
+
+    public record RoleRequest(
+            @NotNull
+            Role role
+    ){}
+
+    public record Response(
+            Long id,
+            String email,
+            String username,
+            Role role
+    ){
+        public static Response from(Member member){
+            return new Response(member.getId(), member.getEmail(), member.getUsername(), member.getRole());
+        }
+    }
+
+    // 토큰에서 읽은 현재 로그인 정보 (DB를 조회하지 않음)
+    public record Principal(
+            Long id,
+            String email,
+            Role role
+    ){
+        public static Principal from(MemberPrincipal principal){
+            return new Principal(principal.id(), principal.email(), principal.role());
+        }
+    }
 }
@@ -4,9 +4,15 @@ import jsh.board.domain.Member;
 import jsh.board.domain.Post;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import jsh.board.exception.InvalidRequestException;
+import jsh.board.repository.PostSummary;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 
 @Getter
 public class PostDto {
@@ -43,6 +49,7 @@ public class PostDto {
             String title,
             String content,
             int viewCount,
+            long uniqueViewerCount,
             int commentCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
@@ -53,10 +60,87 @@ public class PostDto {
                     post.getTitle(),
                     post.getContent(),
                     post.getViewCount(),
-                    post.getComments().size(),
+                    0,
+                    post.getCommentCount(),
                     post.getCreatedTime(),
                     post.getUpdatedTime()
             );
         }
+
+        public Response plusViews(long views){
+            return new Response(id, title, content, viewCount + (int) views, uniqueViewerCount, commentCount, createdAt, updatedAt);
+        }
+
+        public Response withViewStats(long pendingViews, long uniqueViewerCount){
+            return new Response(id, title, content, viewCount + (int) pendingViews, uniqueViewerCount, commentCount, createdAt, updatedAt);
+        }
+    }
+
+    public record SummaryResponse(
+            Long id,
+            String title,
+            String excerpt,
+            int viewCount,
+            int commentCount,
+            LocalDateTime createdAt
+    ){
+        public static SummaryResponse from(PostSummary summary){
+            return new SummaryResponse(
+                    summary.getId(),
+                    summary.getTitle(),
+                    summary.getExcerpt(),
+                    summary.getViewCount(),
+                    summary.getCommentCount(),
+                    summary.getCreatedTime()
+            );
+        }
+    }
+
+    public record PageResponse(
+            List<SummaryResponse> posts,
+            String nextCursor,
+            boolean hasNext
+    ){}
+
+    public record TrendingResponse(
+            Long id,
+            String title,
+            double score
+    ){}
+
+    /*
+    * 목록 조회용 keyset 커서 - 마지막 게시글의 (createdTime, id)를 불투명한 문자열로 인코딩합니다.
+    */
+    public record Cursor(
+            LocalDateTime createdTime,
+            Long id
+    ){
+        private static final String DELIMITER = "|";
+
+        public static Cursor of(SummaryResponse response){
+            return new Cursor(response.createdAt(), response.id());
+        }
+
+        public String encode(){
+            String raw = createdTime + DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String value){
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int index = raw.lastIndexOf(DELIMITER);
+                if (index < 0) {
+                    throw new InvalidRequestException("잘못된 커서입니다.");
+                }
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, index)),
+                        Long.parseLong(raw.substring(index + 1))
+                );
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+        }
     }
 }
@@ -0,0 +1,37 @@
+package jsh.board.dto;
+
+import jsh.board.support.Hashing;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/*
+* 조건부 GET(ETag / Last-Modified) 검증자
+* lastModified는 epoch millis이며, 신뢰할 수 있는 시각이 없으면 -1입니다.
+*/
+public record ResourceVersion(
+        String eTag,
+        long lastModified
+) {
+    public static ResourceVersion strong(LocalDateTime lastModified, Object... parts) {
+        return new ResourceVersion("\"" + digest(parts) + "\"", toEpochMillis(lastModified));
+    }
+
+    public static ResourceVersion weak(LocalDateTime lastModified, Object... parts) {
+        return new ResourceVersion("W/\"" + digest(parts) + "\"", toEpochMillis(lastModified));
+    }
+
+    private static String digest(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(":"));
+        return Long.toHexString(Hashing.hash64(joined));
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        // Auditing이 시스템 기본 시간대로 기록하므로 같은 시간대로 변환합니다.
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,10 @@
+package jsh.board.event;
+
+public record CommentAddedEvent(
+        Long postId,
+        Long commentId,
+        Long parentId,
+        String content,
+        String author
+) {
+}
@@ -0,0 +1,7 @@
+package jsh.board.event;
+
+public record CommentDeletedEvent(
+        Long postId,
+        Long commentId
+) {
+}
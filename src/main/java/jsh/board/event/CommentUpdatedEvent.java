@@ -0,0 +1,8 @@
+package jsh.board.event;
+
+public record CommentUpdatedEvent(
+        Long postId,
+        Long commentId,
+        String content
+) {
+}
@@ -0,0 +1,8 @@
+package jsh.board.event;
+
+public record PostCreatedEvent(
+        Long postId,
+        String title,
+        String content
+) {
+}
@@ -0,0 +1,6 @@
+package jsh.board.event;
+
+public record PostViewedEvent(
+        Long postId
+) {
+}
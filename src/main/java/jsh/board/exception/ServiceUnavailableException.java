@@ -0,0 +1,10 @@
+package jsh.board.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends ApplicationException {
+
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
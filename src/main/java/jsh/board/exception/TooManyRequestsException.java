@@ -0,0 +1,10 @@
+package jsh.board.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends ApplicationException {
+
+    public TooManyRequestsException(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
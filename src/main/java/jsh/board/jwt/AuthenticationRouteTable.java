@@ -0,0 +1,71 @@
+package jsh.board.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/*
+* 요청(메서드 + 경로)별로 토큰을 언제 처리할지 정하는 표 - 패턴은 기동 시 한 번만 컴파일합니다.
+*  - NONE: 신원이 필요 없는 경로. 토큰이 있어도 읽지 않습니다.
+*  - LAZY: 익명도 허용하지만 신원을 쓸 수 있는 경로. 서비스가 인증 정보를 요청할 때 처음 검증합니다.
+*  - EAGER: 인증이 필요한 경로. 필터에서 바로 검증합니다.
+* 위에서부터 처음 일치하는 규칙을 사용하고, 어느 규칙에도 없으면 EAGER입니다.
+* SecurityConfig의 permitAll 경로와 함께 유지해야 합니다.
+*/
+@Component
+public class AuthenticationRouteTable {
+
+    public enum Mode {
+        NONE,
+        LAZY,
+        EAGER
+    }
+
+    private record Route(HttpMethod method, PathPattern pattern, Mode mode) {
+
+        boolean matches(HttpMethod requestMethod, PathContainer path) {
+            return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+        }
+    }
+
+    private final List<Route> routes;
+
+    public AuthenticationRouteTable() {
+        PathPatternParser parser = new PathPatternParser();
+        this.routes = List.of(
+                // 로그아웃은 현재 토큰을 폐기해야 하므로 /api/auth 중 유일하게 신원이 필요합니다.
+                new Route(HttpMethod.POST, parser.parse("/api/auth/logout"), Mode.EAGER),
+                new Route(null, parser.parse("/api/auth/**"), Mode.NONE),
+                new Route(null, parser.parse("/"), Mode.NONE),
+                new Route(null, parser.parse("/favicon.ico"), Mode.NONE),
+                new Route(null, parser.parse("/api/health"), Mode.NONE),
+                new Route(null, parser.parse("/actuator/**"), Mode.NONE),
+                new Route(null, parser.parse("/swagger-ui/**"), Mode.NONE),
+                new Route(null, parser.parse("/swagger-ui.html"), Mode.NONE),
+                new Route(null, parser.parse("/v3/api-docs/**"), Mode.NONE),
+                new Route(null, parser.parse("/v3/api-docs.yaml"), Mode.NONE),
+                new Route(HttpMethod.GET, parser.parse("/api/posts/export"), Mode.EAGER),
+                new Route(HttpMethod.GET, parser.parse("/api/posts/search"), Mode.NONE),
+                new Route(HttpMethod.GET, parser.parse("/api/posts/trending"), Mode.NONE),
+                // 게시글 상세 - 로그인한 회원은 순 방문자 수를 회원 ID로 셉니다.
+                new Route(HttpMethod.GET, parser.parse("/api/posts/{id}"), Mode.LAZY),
+                new Route(HttpMethod.GET, parser.parse("/api/posts/**"), Mode.NONE)
+        );
+    }
+
+    public Mode resolve(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (Route route : routes) {
+            if (route.matches(method, path)) {
+                return route.mode();
+            }
+        }
+        return Mode.EAGER;
+    }
+}
@@ -7,19 +7,25 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String MODE_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".MODE";
+
     private final JwtProvider jwtProvider;
+    private final JwtVerifier jwtVerifier;
+    private final TokenDenyList tokenDenyList;
+    private final AuthenticationRouteTable routeTable;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,29 +35,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = jwtProvider.resolveToken(request);
 
+        if (StringUtils.hasText(token)) {
+            if (request.getAttribute(MODE_ATTRIBUTE) == AuthenticationRouteTable.Mode.LAZY) {
+                // 서비스가 SecurityContext에서 인증 정보를 꺼낼 때 처음 한 번만 검증합니다.
+                SecurityContextHolder.setDeferredContext(memoize(() -> authenticate(request, token)));
+            } else {
+                SecurityContextHolder.setContext(authenticate(request, token));
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private SecurityContext authenticate(HttpServletRequest request, String token) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
         try {
-            if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-                Claims claims = jwtProvider.parseClaims(token);
-                Authentication authentication = jwtProvider.toAuthentication(claims);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 서명 검증과 파싱을 한 번에 (검증된 토큰은 캐시에서)
+            Claims claims = jwtVerifier.verify(token);
+            // 로그아웃/비밀번호 변경으로 폐기된 토큰 (메모리에서 확인)
+            if (tokenDenyList.isRevoked(claims)) {
+                throw new JwtException("Revoked JWT Token");
             }
+            context.setAuthentication(jwtProvider.toAuthentication(claims));
         } catch (JwtException e) {
-            SecurityContextHolder.clearContext();
             request.setAttribute("jwt_exception", e);
         }
+        return context;
+    }
 
-        filterChain.doFilter(request, response);
+    private static Supplier<SecurityContext> memoize(Supplier<SecurityContext> supplier) {
+        return new Supplier<>() {
+            private SecurityContext context;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    context = supplier.get();
+                }
+                return context;
+            }
+        };
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return path.startsWith("/api/auth")
-                || path.startsWith("/swagger-ui")
-                || path.startsWith("/swagger-ui.html")
-                || path.startsWith("/swagger-ui/")
-                || path.startsWith("/v3/api-docs")
-                || path.startsWith("/v3/api-docs.yaml")
-                || path.startsWith("/v3/api-docs/");
+        AuthenticationRouteTable.Mode mode = routeTable.resolve(request);
+        request.setAttribute(MODE_ATTRIBUTE, mode);
+        return mode == AuthenticationRouteTable.Mode.NONE;
     }
 }
@@ -11,7 +11,8 @@ import java.time.Duration;
 public record JwtProperties(
         String secret,
         Duration accessTokenValidity,
-        Duration refreshTokenValidity
+        Duration refreshTokenValidity,
+        int verifiedTokenCacheSize
 ) {
     public SecretKey secretKey() {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
@@ -1,45 +1,59 @@
 package jsh.board.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.HttpServletRequest;
+import jsh.board.cache.MemberSnapshot;
+import jsh.board.cache.MemberSnapshotCache;
 import jsh.board.domain.Member;
-import jsh.board.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import jsh.board.domain.Role;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.SecretKey;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
+    private static final String TOKEN_TYPE = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
     private final Clock clock;
-    private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final JwtVerifier jwtVerifier;
+    private final SecretKey secretKey;
+
+    public JwtProvider(JwtProperties jwtProperties, Clock clock,
+                       MemberSnapshotCache memberSnapshotCache, JwtVerifier jwtVerifier) {
+        this.jwtProperties = jwtProperties;
+        this.clock = clock;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.jwtVerifier = jwtVerifier;
+        this.secretKey = jwtProperties.secretKey();
+    }
 
     public String createAccessToken(Member member) {
         Instant now = Instant.now(clock);
         return Jwts.builder()
                 .subject(member.getId().toString())
                 .claim("roles", List.of(member.getRole().name()))
+                .claim("email", member.getEmail())
+                .claim("name", member.getUsername())
+                .claim("ver", member.getAuthVersion())
+                .id(UUID.randomUUID().toString())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plus(jwtProperties.accessTokenValidity())))
-                .signWith(jwtProperties.secretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
@@ -48,51 +62,65 @@ public class JwtProvider {
         return Jwts.builder()
                 .subject(member.getId().toString())
                 .claim("roles", List.of(member.getRole().name()))
+                .claim(TOKEN_TYPE, REFRESH_TOKEN_TYPE)
+                // 같은 초에 다시 발급해도 토큰(과 digest)이 달라지도록 jti를 넣습니다.
+                .id(UUID.randomUUID().toString())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plus(jwtProperties.refreshTokenValidity())))
-                .signWith(jwtProperties.secretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
     public Claims parseClaims(String token) {
-        try{
-            return Jwts.parser()
-                    .verifyWith(jwtProperties.secretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            throw new JwtException("Expired JWT Token");
-        } catch (JwtException e) {
-            throw new JwtException("Invalid JWT Token");
-        }
-
+        return jwtVerifier.parse(token);
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+    /*
+    * 리프레시 토큰만 통과시킵니다. (access token을 리프레시 토큰으로 쓰지 못하도록)
+    */
+    public Claims parseRefreshToken(String token) {
+        Claims claims = jwtVerifier.parse(token);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new JwtException("Invalid JWT Token");
         }
+        return claims;
     }
 
+    /*
+    * claim만으로 인증 정보를 만듭니다. (DB 조회 없음)
+    * 토큰 발급 이후 권한이 바뀐 회원만 스냅샷 캐시의 최신 값으로 대체합니다.
+    */
     public Authentication toAuthentication(Claims claims) {
-        Long memberId = Long.parseLong(claims.getSubject());
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        String email = claims.get("email", String.class);
+        List<?> roles = claims.get("roles", List.class);
+        Number version = claims.get("ver", Number.class);
+        if (email == null || roles == null || roles.isEmpty() || version == null) {
+            throw new JwtException("Invalid JWT Token");
+        }
 
-        Collection<? extends GrantedAuthority> authorities =
-                List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()));
+        MemberPrincipal principal;
+        try {
+            principal = new MemberPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    email,
+                    // name claim이 없던 이전 토큰은 만료될 때까지 null입니다.
+                    claims.get("name", String.class),
+                    Role.valueOf(roles.get(0).toString()),
+                    version.longValue(),
+                    claims.getId(),
+                    claims.getExpiration().toInstant()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("Invalid JWT Token");
+        }
 
-        UserDetails principal = new User(
-                member.getEmail(),
-                member.getPassword(),
-                authorities
-        );
+        MemberSnapshot snapshot = memberSnapshotCache.findNewerThan(principal.id(), principal.authVersion());
+        if (snapshot != null) {
+            principal = new MemberPrincipal(snapshot.id(), snapshot.email(), principal.username(), snapshot.role(),
+                    snapshot.authVersion(), principal.tokenId(), principal.tokenExpiresAt());
+        }
 
-        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -0,0 +1,86 @@
+package jsh.board.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jsh.board.support.Hashing;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 토큰 서명 검증과 claim 파싱을 한 번에 합니다.
+* 파서와 키는 기동 시 한 번만 만들고(JwtParser는 thread-safe), 검증된 claim은 토큰의 SHA-256 digest를 key로
+* 토큰 만료 시각까지 캐시합니다. 같은 토큰으로 반복되는 요청은 HMAC 계산과 JSON 파싱 없이 digest 계산만 합니다.
+* hit/miss 지표는 cache="jwt_verified" 태그로 노출됩니다.
+*/
+@Component
+public class JwtVerifier {
+
+    private final JwtParser parser;
+    private final Clock clock;
+    private final Cache<String, Claims> verified;
+
+    public JwtVerifier(JwtProperties jwtProperties, Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.parser = Jwts.parser()
+                .verifyWith(jwtProperties.secretKey())
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.verifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> untilExpiration(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt_verified");
+    }
+
+    /*
+    * 캐시를 거쳐 검증합니다. 인증 필터처럼 같은 토큰이 반복해서 들어오는 곳에서 사용합니다.
+    */
+    public Claims verify(String token) {
+        String digest = Hashing.sha256Hex(token);
+        Claims claims = verified.getIfPresent(digest);
+        if (claims != null) {
+            // 캐시 만료는 만료 시각에 맞춰지지만, 경계에서 만료된 토큰을 돌려주지 않도록 한 번 더 확인합니다.
+            if (!claims.getExpiration().after(Date.from(clock.instant()))) {
+                verified.invalidate(digest);
+                throw new JwtException("Expired JWT Token");
+            }
+            return claims;
+        }
+
+        claims = parse(token);
+        if (claims.getExpiration() != null) {
+            verified.put(digest, claims);
+        }
+        return claims;
+    }
+
+    /*
+    * 캐시 없이 한 번 검증합니다. (방금 발급한 토큰처럼 다시 쓰이지 않는 토큰)
+    */
+    public Claims parse(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new JwtException("Expired JWT Token");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new JwtException("Invalid JWT Token");
+        }
+    }
+
+    private long untilExpiration(Claims claims) {
+        long remainingMillis = claims.getExpiration().getTime() - clock.millis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+}
@@ -0,0 +1,34 @@
+package jsh.board.jwt;
+
+import jsh.board.domain.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/*
+* 토큰 claim만으로 만드는 인증 주체 - 비밀번호 해시 없이 회원 ID, 이메일, 닉네임, 권한만 담습니다.
+* 로그아웃 시 이 토큰을 폐기할 수 있도록 jti와 만료 시각도 함께 둡니다.
+* getName()은 기존과 같이 이메일을 반환합니다.
+*/
+public record MemberPrincipal(
+        Long id,
+        String email,
+        String username,
+        Role role,
+        long authVersion,
+        String tokenId,
+        Instant tokenExpiresAt
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
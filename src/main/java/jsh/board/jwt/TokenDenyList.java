@@ -0,0 +1,147 @@
+package jsh.board.jwt;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import jsh.board.domain.TokenRevocation;
+import jsh.board.repository.TokenRevocationRepository;
+import jsh.board.support.BloomFilter;
+import jsh.board.support.ChangeFeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+* 폐기된 access token 목록 (메모리)
+* 인증 필터는 요청마다 DB를 조회하지 않고 여기서 O(1)로 확인합니다.
+*  - jti: Bloom filter가 "없음"이면 바로 통과하고, "있을 수 있음"일 때만 정확한 map을 확인합니다.
+*  - 회원별 not-before: 그 시각 이전에 발급된 토큰을 모두 거부합니다.
+* 기동 시 token_revocation 테이블에서 다시 만들고, 다른 인스턴스에서 기록된 폐기는 주기적으로 새 행만 읽어 반영합니다. (ChangeFeed)
+* 만료된 항목은 정리 주기에 제거하며, 삭제가 안 되는 Bloom filter는 남은 항목으로 다시 만듭니다.
+*/
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Clock clock;
+    private final Duration accessTokenValidity;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> notBefore = new ConcurrentHashMap<>();
+    private final ChangeFeed<TokenRevocation> changes;
+    private volatile BloomFilter filter;
+
+    public TokenDenyList(TokenRevocationRepository tokenRevocationRepository, Clock clock,
+                         JwtProperties jwtProperties, TokenRevocationProperties properties) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.clock = clock;
+        this.accessTokenValidity = jwtProperties.accessTokenValidity();
+        this.expectedRevocations = properties.expectedRevocations();
+        this.falsePositiveRate = properties.falsePositiveRate();
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.changes = new ChangeFeed<>(
+                () -> tokenRevocationRepository.findByExpiresAtAfter(Instant.now(clock)),
+                from -> tokenRevocationRepository.findByCreatedAtGreaterThanEqualAndExpiresAtAfter(from, Instant.now(clock)),
+                TokenRevocation::getId, TokenRevocation::getCreatedAt, clock);
+    }
+
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("Loaded {} revoked tokens and {} member revocations", revokedTokens.size(), notBefore.size());
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && filter.mightContain(jti) && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+
+        Long memberNotBefore = notBefore.get(Long.parseLong(claims.getSubject()));
+        return memberNotBefore != null && claims.getIssuedAt() != null
+                && claims.getIssuedAt().getTime() < memberNotBefore;
+    }
+
+    /*
+    * 로그아웃 - 이 토큰 하나를 만료 시각까지 거부합니다.
+    */
+    public void revokeToken(Long memberId, String jti, Instant expiresAt) {
+        tokenRevocationRepository.save(TokenRevocation.token(memberId, jti, Instant.now(clock), expiresAt));
+        afterCommit(() -> addToken(jti, expiresAt.toEpochMilli()));
+    }
+
+    /*
+    * 비밀번호 변경 등 - 지금까지 발급된 회원의 모든 access token을 거부합니다.
+    * iat는 초 단위이므로 not-before도 초 단위로 내려 같은 초 안의 이후 발급 토큰은 통과시킵니다.
+    */
+    public void revokeAllTokens(Long memberId) {
+        Instant now = Instant.now(clock);
+        Instant notBefore = now.truncatedTo(ChronoUnit.SECONDS);
+        tokenRevocationRepository.save(TokenRevocation.member(memberId, notBefore, now, notBefore.plus(accessTokenValidity)));
+        afterCommit(() -> addNotBefore(memberId, notBefore.toEpochMilli()));
+    }
+
+    @Scheduled(fixedDelayString = "${board.token-revocation.sync-interval-ms}")
+    public void sync() {
+        for (TokenRevocation revocation : changes.poll()) {
+            if (revocation.getJti() != null) {
+                addToken(revocation.getJti(), revocation.getExpiresAt().toEpochMilli());
+            } else {
+                addNotBefore(revocation.getMemberId(), revocation.getNotBefore().toEpochMilli());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.token-revocation.purge-interval-ms}")
+    public void purge() {
+        long now = clock.millis();
+        long tokenValidityMillis = accessTokenValidity.toMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        notBefore.values().removeIf(memberNotBefore -> memberNotBefore + tokenValidityMillis <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size() * 2), falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        // 교체 직전에 추가된 jti가 새 filter에 빠지지 않도록 한 번 더 넣습니다.
+        revokedTokens.keySet().forEach(rebuilt::add);
+
+        int deleted = tokenRevocationRepository.deleteExpired(Instant.ofEpochMilli(now));
+        if (deleted > 0) {
+            log.info("Purged {} expired token revocations", deleted);
+        }
+    }
+
+    private void addToken(String jti, long expiresAt) {
+        revokedTokens.put(jti, expiresAt);
+        filter.add(jti);
+    }
+
+    private void addNotBefore(Long memberId, long memberNotBefore) {
+        notBefore.merge(memberId, memberNotBefore, Math::max);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
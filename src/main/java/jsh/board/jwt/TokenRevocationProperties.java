@@ -0,0 +1,10 @@
+package jsh.board.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "board.token-revocation")
+public record TokenRevocationProperties(
+        int expectedRevocations,
+        double falsePositiveRate
+) {
+}
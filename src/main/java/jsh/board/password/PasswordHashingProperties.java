@@ -0,0 +1,18 @@
+package jsh.board.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.password")
+public record PasswordHashingProperties(
+        // 0이면 CPU 코어 수
+        int threads,
+        int queueCapacity,
+        Duration timeout,
+        int bcryptStrength
+) {
+    public int threadCount() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -1,10 +1,100 @@
 package jsh.board.repository;
 
+import jakarta.persistence.QueryHint;
 import jsh.board.domain.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     public List<Comment> findByPostId(Long postId);
+
+    // 게시글 존재 여부와 최상위 댓글 첫 페이지를 한 번에 조회합니다. (post_id, parent_id, id) 인덱스를 따라 afterId 다음부터 읽습니다.
+    // 작성자 이름도 같은 쿼리에서 join해, 댓글마다 member를 지연 로딩하지 않습니다.
+    @Query("""
+            select p.id as postId, c.id as id, c.parentId as parentId, c.content as content, a.username as authorName,
+                   c.depth as depth, c.replyCount as replyCount, c.createdTime as createdTime, c.updatedTime as updatedTime
+            from Post p
+                 left join Comment c on c.post = p and c.parentId is null and c.id > :afterId
+                 left join c.author a
+            where p.id = :postId
+            order by c.id asc
+            """)
+    List<CommentRow> findPage(@Param("postId") Long postId, @Param("afterId") long afterId, Pageable pageable);
+
+    // 댓글과 그 하위 트리 전체를 path 순서(전위 순회)로 조회합니다. (post_id, path) 인덱스의 prefix 범위 조회 한 번입니다.
+    @Query("""
+            select c.post.id as postId, c.id as id, c.parentId as parentId, c.content as content, a.username as authorName,
+                   c.depth as depth, c.replyCount as replyCount, c.createdTime as createdTime, c.updatedTime as updatedTime
+            from Comment r
+                 join r.post p
+                 join Comment c on c.post = r.post and c.path like concat(r.path, '%')
+                 left join c.author a
+            where r.id = :commentId and p.id = :postId and p.deletedTime is null
+            order by c.path asc
+            """)
+    List<CommentRow> findSubtree(@Param("postId") Long postId, @Param("commentId") Long commentId, Pageable pageable);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + 1 where c.id = :id")
+    int incrementReplyCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount - 1 where c.id = :id and c.replyCount > 0")
+    int decrementReplyCount(@Param("id") Long id);
+
+    // path prefix로 댓글과 모든 하위 답글을 한 번에 삭제하고, 삭제된 행 수를 반환합니다.
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId and c.path like concat(:path, '%')")
+    int deleteSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    // 게시글, 작성자 조건을 WHERE에 넣어 권한 확인과 수정을 한 문장으로 처리합니다. (0건이면 없는 댓글이거나 작성자가 아님)
+    @Modifying
+    @Query("""
+            update Comment c
+            set c.content = :content, c.updatedTime = :updatedTime
+            where c.id = :id and c.post.id = :postId and c.author.id = :memberId
+              and exists (select 1 from Post p where p.id = :postId and p.deletedTime is null)
+            """)
+    int updateContentByIdAndAuthorId(@Param("postId") Long postId,
+                                     @Param("id") Long id,
+                                     @Param("memberId") Long memberId,
+                                     @Param("content") String content,
+                                     @Param("updatedTime") LocalDateTime updatedTime);
+
+    // 하위 트리 삭제에는 path가 필요하므로, 작성자 조건을 건 projection 조회로 엔티티와 작성자를 읽지 않고 가져옵니다.
+    // (MySQL은 DELETE 대상 테이블을 같은 문장의 서브쿼리에서 읽을 수 없음)
+    @Query("""
+            select c.path as path, c.parentId as parentId
+            from Comment c join c.post p
+            where c.id = :id and p.id = :postId and c.author.id = :memberId and p.deletedTime is null
+            """)
+    Optional<CommentTarget> findTargetByIdAndAuthorId(@Param("postId") Long postId,
+                                                      @Param("id") Long id,
+                                                      @Param("memberId") Long memberId);
+
+    // 삭제 표시된 게시글의 댓글은 없는 것으로 봅니다.
+    @Query("""
+            select count(c) > 0
+            from Comment c join c.post p
+            where c.id = :id and p.id = :postId and p.deletedTime is null
+            """)
+    boolean existsByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍합니다.
+    @Query("select c from Comment c join c.post p where p.deletedTime is null order by c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Comment> streamAllForExport();
 }
@@ -0,0 +1,28 @@
+package jsh.board.repository;
+
+import java.time.LocalDateTime;
+
+/*
+* 댓글 조회 결과 한 행 (작성자 이름까지 한 쿼리로 조회)
+* 페이지 조회에서 게시글은 있지만 댓글이 없으면 postId 외의 값이 모두 null인 행 하나가 옵니다.
+*/
+public interface CommentRow {
+
+    Long getPostId();
+
+    Long getId();
+
+    Long getParentId();
+
+    String getContent();
+
+    String getAuthorName();
+
+    Integer getDepth();
+
+    Integer getReplyCount();
+
+    LocalDateTime getCreatedTime();
+
+    LocalDateTime getUpdatedTime();
+}
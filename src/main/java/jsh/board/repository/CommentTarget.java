@@ -0,0 +1,11 @@
+package jsh.board.repository;
+
+/*
+* 삭제할 댓글의 하위 트리 범위(path)와 부모 ID만 담는 projection - 작성자 조건을 통과한 경우에만 조회됩니다.
+*/
+public interface CommentTarget {
+
+    String getPath();
+
+    Long getParentId();
+}
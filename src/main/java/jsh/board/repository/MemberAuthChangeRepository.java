@@ -0,0 +1,23 @@
+package jsh.board.repository;
+
+import jsh.board.domain.MemberAuthChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MemberAuthChangeRepository extends JpaRepository<MemberAuthChange, Long> {
+
+    List<MemberAuthChange> findByExpiresAtAfter(Instant now);
+
+    List<MemberAuthChange> findByCreatedAtGreaterThanEqualAndExpiresAtAfter(Instant createdAt, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MemberAuthChange c where c.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
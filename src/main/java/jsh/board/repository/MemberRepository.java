@@ -2,11 +2,26 @@ package jsh.board.repository;
 
 import jsh.board.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     boolean findByUsername(String username);
+
+    @Query("select m.id from Member m where m.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 읽어 둔 해시가 그대로일 때만 바꿉니다. 해시를 계산하는 사이 다른 요청이 바꿨으면 0을 반환합니다.
+    @Modifying
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
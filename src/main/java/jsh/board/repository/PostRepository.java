@@ -1,7 +1,91 @@
 package jsh.board.repository;
 
+import jakarta.persistence.QueryHint;
 import jsh.board.domain.Post;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    String SUMMARY_SELECT = """
+            select p.id as id, p.title as title, substring(p.content, 1, 100) as excerpt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, p.createdTime as createdTime
+            from Post p
+            """;
+
+    @Query(SUMMARY_SELECT + "order by p.createdTime desc, p.id desc")
+    List<PostSummary> findFirstPage(Pageable pageable);
+
+    // (createdTime, id) 기준 keyset 조회 - OFFSET 없이 인덱스에서 바로 다음 위치를 찾습니다.
+    @Query(SUMMARY_SELECT + """
+            where p.createdTime < :createdTime
+               or (p.createdTime = :createdTime and p.id < :id)
+            order by p.createdTime desc, p.id desc
+            """)
+    List<PostSummary> findPageAfter(@Param("createdTime") LocalDateTime createdTime,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.id in :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍합니다.
+    @Query("select p.id as id, p.title as title, p.content as content from Post p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<PostText> streamAllTexts();
+
+    // 댓글 수는 증감 UPDATE로만 바꿔, 댓글 컬렉션을 읽지 않고 동시 작성에도 값을 잃지 않습니다.
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :id and p.deletedTime is null")
+    int incrementCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            update Post p
+            set p.commentCount = case when p.commentCount > :count then p.commentCount - :count else 0 end
+            where p.id = :id
+            """)
+    int decreaseCommentCount(@Param("id") Long id, @Param("count") int count);
+
+    // 작성자 조건을 WHERE에 넣어 권한 확인과 변경을 한 문장으로 처리합니다. (0건이면 없는 게시글이거나 작성자가 아님)
+    // 벌크 UPDATE는 auditing을 거치지 않으므로 수정 시각을 직접 넘깁니다.
+    @Modifying
+    @Query("""
+            update Post p
+            set p.title = :title, p.content = :content, p.updatedTime = :updatedTime
+            where p.id = :id and p.author.id = :memberId and p.deletedTime is null
+            """)
+    int updateByIdAndAuthorId(@Param("id") Long id,
+                              @Param("memberId") Long memberId,
+                              @Param("title") String title,
+                              @Param("content") String content,
+                              @Param("updatedTime") LocalDateTime updatedTime);
+
+    // 삭제 표시만 하고 바로 반환합니다. 댓글과 게시글 행은 PostPurger가 나눠서 지웁니다.
+    @Modifying
+    @Query("""
+            update Post p
+            set p.deletedTime = :deletedTime
+            where p.id = :id and p.author.id = :memberId and p.deletedTime is null
+            """)
+    int softDeleteByIdAndAuthorId(@Param("id") Long id,
+                                  @Param("memberId") Long memberId,
+                                  @Param("deletedTime") LocalDateTime deletedTime);
+
+    @Query("select p from Post p order by p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Post> streamAllForExport();
 }
@@ -0,0 +1,39 @@
+package jsh.board.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PostRepositoryCustom {
+
+    void addViewCounts(Map<Long, Long> deltas);
+
+    /*
+    * afterId 다음부터 batchSize개 게시글 중 마지막 ID, 더 없으면 null
+    */
+    Long findIdUpperBound(long afterId, int batchSize);
+
+    /*
+    * (afterId, upToId] 구간 게시글의 comment_count를 실제 댓글 수로 맞추고, 고친 게시글 수를 반환합니다.
+    */
+    int reconcileCommentCounts(long afterId, long upToId);
+
+    /*
+    * 삭제 표시된 게시글 ID를 삭제 시각 순서로 최대 limit개
+    */
+    List<Long> findDeletedIds(int limit);
+
+    /*
+    * 게시글의 댓글을 최대 batchSize개 지우고, 지운 행 수를 반환합니다.
+    */
+    int deleteCommentsBatch(long postId, int batchSize);
+
+    /*
+    * 게시글의 순 방문자 sketch 행을 지웁니다.
+    */
+    int deleteViewerSketch(long postId);
+
+    /*
+    * 삭제 표시된 게시글 행을 지웁니다. (댓글을 모두 지운 뒤 호출)
+    */
+    int deleteMarkedPost(long postId);
+}
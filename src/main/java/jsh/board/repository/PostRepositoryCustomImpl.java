@@ -0,0 +1,75 @@
+package jsh.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+    * 게시글별 조회수 증가분을 하나의 JDBC batch로 반영합니다.
+    * id 순서로 정렬해 여러 인스턴스가 동시에 flush해도 row lock 순서가 엇갈리지 않도록 합니다.
+    */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new TreeMap<>(deltas).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate("UPDATE post SET view_count = view_count + ? WHERE id = ?", args);
+    }
+
+    @Override
+    public Long findIdUpperBound(long afterId, int batchSize) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM (SELECT id FROM post WHERE id > ? ORDER BY id LIMIT ?) batch",
+                Long.class, afterId, batchSize);
+    }
+
+    /*
+    * 값이 다른 행만 갱신해, 맞는 게시글에는 row lock도 binlog도 남기지 않습니다.
+    */
+    @Override
+    public int reconcileCommentCounts(long afterId, long upToId) {
+        return jdbcTemplate.update("""
+                UPDATE post p
+                SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id)
+                WHERE p.id > ? AND p.id <= ?
+                  AND p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id)
+                """, afterId, upToId);
+    }
+
+    // 아래 문장들은 @SQLRestriction을 거치지 않도록 JDBC로 실행하며, 각각 autocommit 트랜잭션 하나입니다.
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE deleted_time IS NOT NULL ORDER BY deleted_time LIMIT ?",
+                Long.class, limit);
+    }
+
+    /*
+    * (post_id, path) 인덱스 순서로 지워, LIMIT이 있어도 복제본에서 같은 행이 지워지도록 합니다.
+    */
+    @Override
+    public int deleteCommentsBatch(long postId, int batchSize) {
+        return jdbcTemplate.update("DELETE FROM comment WHERE post_id = ? ORDER BY path LIMIT ?", postId, batchSize);
+    }
+
+    @Override
+    public int deleteViewerSketch(long postId) {
+        return jdbcTemplate.update("DELETE FROM post_viewer_sketch WHERE post_id = ?", postId);
+    }
+
+    @Override
+    public int deleteMarkedPost(long postId) {
+        return jdbcTemplate.update("DELETE FROM post WHERE id = ? AND deleted_time IS NOT NULL", postId);
+    }
+}
@@ -0,0 +1,21 @@
+package jsh.board.repository;
+
+import java.time.LocalDateTime;
+
+/*
+* 목록 화면용 게시글 projection - 본문 전체(@Lob)와 댓글 컬렉션을 읽지 않습니다.
+*/
+public interface PostSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    int getViewCount();
+
+    int getCommentCount();
+
+    LocalDateTime getCreatedTime();
+}
@@ -0,0 +1,13 @@
+package jsh.board.repository;
+
+/*
+* 검색 색인 재구축용 projection - 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+*/
+public interface PostText {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -0,0 +1,7 @@
+package jsh.board.repository;
+
+import jsh.board.domain.PostViewerSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Long> {
+}
@@ -2,11 +2,29 @@ package jsh.board.repository;
 
 import jsh.board.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    Optional<RefreshToken> findByMemberId(Long memberId);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
     void deleteByMemberId(Long memberId);
+
+    // 아직 교체되지 않은 토큰일 때만 교체됨으로 표시합니다. 같은 토큰으로 동시에 들어온 요청 중 하나만 1을 받습니다.
+    @Modifying
+    @Query("update RefreshToken r set r.rotated = true where r.tokenHash = :tokenHash and r.rotated = false")
+    int markRotated(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiryDate <= :now")
+    int deleteExpired(@Param("now") Instant now);
 }
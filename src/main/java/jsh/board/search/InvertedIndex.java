@@ -0,0 +1,175 @@
+package jsh.board.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+* 게시글 제목/본문 역색인
+* 검색은 read lock, 색인 변경은 write lock으로 보호하며, 토큰화는 lock 밖에서 합니다.
+* 제목 토큰은 본문보다 두 배의 빈도로 반영하고, 순위는 BM25로 매깁니다.
+*/
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_QUERY_TERMS = 32;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    // 수정/삭제 시 기존 posting을 찾아 지우기 위한 문서별 단어 목록
+    private record Document(int length, PostingList[] terms) {
+    }
+
+    /*
+    * 문서를 색인합니다. 이미 있으면 교체합니다.
+    */
+    public void put(long docId, String title, String content) {
+        Map<String, Integer> frequencies = termFrequencies(title, content);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            addLocked(docId, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+    * 아직 색인되지 않은 문서만 추가합니다. (재구축 중 더 최신 이벤트가 반영된 문서를 덮어쓰지 않기 위함)
+    */
+    public boolean putIfAbsent(long docId, String title, String content) {
+        Map<String, Integer> frequencies = termFrequencies(title, content);
+
+        lock.writeLock().lock();
+        try {
+            if (documents.containsKey(docId)) {
+                return false;
+            }
+            addLocked(docId, frequencies);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        terms = terms.subList(0, Math.min(terms.size(), MAX_QUERY_TERMS));
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int documentFrequency = postingList.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                postingList.forEach((docId, termFrequency) -> {
+                    int length = documents.get(docId).length();
+                    double normalized = termFrequency * (K1 + 1)
+                            / (termFrequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(docId, idf * normalized, Double::sum);
+                });
+            }
+
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(long docId, Map<String, Integer> frequencies) {
+        int length = 0;
+        PostingList[] terms = new PostingList[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList postingList = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+            postingList.add(docId, entry.getValue());
+            terms[i++] = postingList;
+            length += entry.getValue();
+        }
+        documents.put(docId, new Document(length, terms));
+        totalLength += length;
+    }
+
+    private void removeLocked(long docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        for (PostingList postingList : document.terms()) {
+            postingList.remove(docId);
+            if (postingList.size() == 0) {
+                postings.remove(postingList.term());
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : Tokenizer.tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static List<SearchHit> topHits(Map<Long, Double> scores, int limit) {
+        Comparator<SearchHit> byScore = Comparator.comparingDouble(SearchHit::score)
+                .thenComparingLong(SearchHit::postId);
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(new SearchHit(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+}
@@ -0,0 +1,140 @@
+package jsh.board.search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+* 한 단어의 posting list
+* (문서 ID 증가분, 단어 빈도)를 varint로 이어 붙여 압축 저장합니다.
+* 새 글은 ID가 증가하므로 끝에 바로 덧붙이고, 수정/삭제는 pending에 모았다가 일정량이 쌓이면 다시 압축합니다.
+* 동기화는 InvertedIndex의 lock에 맡깁니다.
+*/
+final class PostingList {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 32;
+
+    private final String term;
+
+    private byte[] encoded = new byte[8];
+    private int encodedLength;
+    private int encodedCount;
+    private long lastEncodedDocId;
+
+    // encoded에 있는 항목을 가리는 삭제 표시, 순서가 맞지 않아 아직 압축하지 못한 추가분
+    private final Set<Long> pendingRemovals = new HashSet<>();
+    private final TreeMap<Long, Integer> pendingAdds = new TreeMap<>();
+
+    private int size;
+
+    PostingList(String term) {
+        this.term = term;
+    }
+
+    String term() {
+        return term;
+    }
+
+    // 살아있는 문서 수 (document frequency)
+    int size() {
+        return size;
+    }
+
+    /*
+    * 호출자(InvertedIndex)는 이 단어를 가진 문서에 대해서만 add/remove를 한 번씩 호출합니다.
+    */
+    void add(long docId, int termFrequency) {
+        size++;
+        if (docId > lastEncodedDocId && pendingAdds.isEmpty()) {
+            pendingRemovals.remove(docId);
+            append(docId, termFrequency);
+            return;
+        }
+        pendingRemovals.add(docId);
+        pendingAdds.put(docId, termFrequency);
+        compactIfNeeded();
+    }
+
+    void remove(long docId) {
+        size--;
+        pendingAdds.remove(docId);
+        pendingRemovals.add(docId);
+        compactIfNeeded();
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        long docId = 0;
+        for (int i = 0; i < encodedCount; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = encoded[position++];
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta;
+            if (!pendingRemovals.contains(docId)) {
+                consumer.accept(docId, termFrequency);
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : pendingAdds.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void compactIfNeeded() {
+        int pending = pendingAdds.size() + pendingRemovals.size();
+        if (pending < Math.max(MIN_COMPACTION_THRESHOLD, encodedCount / 8)) {
+            return;
+        }
+
+        TreeMap<Long, Integer> live = new TreeMap<>();
+        forEach(live::put);
+
+        encoded = new byte[Math.max(8, encodedLength)];
+        encodedLength = 0;
+        encodedCount = 0;
+        lastEncodedDocId = 0;
+        pendingAdds.clear();
+        pendingRemovals.clear();
+
+        for (Map.Entry<Long, Integer> entry : live.entrySet()) {
+            append(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void append(long docId, int termFrequency) {
+        writeVarint(docId - lastEncodedDocId);
+        writeVarint(termFrequency);
+        lastEncodedDocId = docId;
+        encodedCount++;
+    }
+
+    private void writeVarint(long value) {
+        if (encodedLength + 10 > encoded.length) {
+            encoded = Arrays.copyOf(encoded, Math.max(encoded.length * 2, encodedLength + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            encoded[encodedLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        encoded[encodedLength++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(long docId, int termFrequency);
+    }
+}
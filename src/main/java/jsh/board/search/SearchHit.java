@@ -0,0 +1,7 @@
+package jsh.board.search;
+
+public record SearchHit(
+        long postId,
+        double score
+) {
+}
@@ -0,0 +1,41 @@
+package jsh.board.search;
+
+import jsh.board.event.PostCreatedEvent;
+import jsh.board.event.PostDeletedEvent;
+import jsh.board.event.PostUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+* 게시글 변경을 검색 색인에 반영합니다.
+* 커밋된 변경만 반영하도록 AFTER_COMMIT(기본값) 단계에서 처리합니다.
+*/
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchService searchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        searchService.rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        searchService.index(event.postId(), event.title(), event.content());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        searchService.index(event.postId(), event.title(), event.content());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        searchService.remove(event.postId());
+    }
+}
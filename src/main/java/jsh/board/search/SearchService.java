@@ -0,0 +1,104 @@
+package jsh.board.search;
+
+import jsh.board.dto.PostDto;
+import jsh.board.exception.InvalidRequestException;
+import jsh.board.repository.PostRepository;
+import jsh.board.repository.PostSummary;
+import jsh.board.repository.PostText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+* 게시글 전문 검색
+* 색인은 메모리에만 두고, 기동 시 DB를 스트리밍으로 읽어 재구축한 뒤 게시글 이벤트로 갱신합니다.
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_RESULT_SIZE = 100;
+
+    private final PostRepository postRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    // 재구축 도중 삭제된 게시글 - 스트림이 읽은 예전 스냅샷으로 되살아나지 않도록 합니다.
+    private final Set<Long> deletedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    /*
+    * Search Posts (BM25 순)
+    */
+    @Transactional(readOnly = true)
+    public List<PostDto.SummaryResponse> search(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_RESULT_SIZE);
+
+        List<SearchHit> hits = index.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(SearchHit::postId).collect(Collectors.toList());
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        // 색인 반영 직후 삭제된 글은 조회 결과에 없으므로 건너뜁니다.
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(PostDto.SummaryResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /*
+    * Rebuild Index (기동 시 1회)
+    * 이미 이벤트로 색인된 글은 건너뛰므로, 재구축 중 들어온 수정이 예전 내용으로 덮이지 않습니다.
+    */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        AtomicInteger indexed = new AtomicInteger();
+
+        rebuilding = true;
+        try (Stream<PostText> posts = postRepository.streamAllTexts()) {
+            posts.forEach(post -> {
+                if (!deletedWhileRebuilding.contains(post.getId())
+                        && index.putIfAbsent(post.getId(), post.getTitle(), post.getContent())) {
+                    indexed.incrementAndGet();
+                }
+            });
+        } finally {
+            rebuilding = false;
+            deletedWhileRebuilding.clear();
+        }
+
+        log.info("Rebuilt search index with {} posts in {} ms",
+                indexed.get(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public void index(Long postId, String title, String content) {
+        index.put(postId, title, content);
+    }
+
+    public void remove(Long postId) {
+        if (rebuilding) {
+            deletedWhileRebuilding.add(postId);
+        }
+        index.remove(postId);
+    }
+}
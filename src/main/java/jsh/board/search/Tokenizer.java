@@ -0,0 +1,69 @@
+package jsh.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+* 검색용 토크나이저
+* 한글 음절이 이어진 구간은 2-gram으로, 그 외 문자/숫자 구간은 소문자 단어로 자릅니다.
+* 형태소 분석 없이도 조사가 붙은 어절("게시판에서")에서 "게시", "시판"을 찾을 수 있습니다.
+* 한 음절짜리 구간은 그대로 한 토큰이 됩니다.
+*/
+public final class Tokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            int start = i;
+            if (isHangulSyllable(c)) {
+                while (i < length && isHangulSyllable(normalized.charAt(i))) {
+                    i++;
+                }
+                addBigrams(normalized, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                while (i < length && isWordChar(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(normalized.substring(start, i));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangulSyllable(c);
+    }
+}
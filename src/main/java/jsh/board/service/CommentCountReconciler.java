@@ -0,0 +1,43 @@
+package jsh.board.service;
+
+import jsh.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+* 게시글 comment_count 보정 작업
+* 증감 UPDATE가 어긋난 경우(수동 데이터 수정, 컬럼 추가 직후의 기존 게시글 등)를 ID 순서대로 batch-size개씩 바로잡습니다.
+* batch마다 별도 문장으로 실행해 한 번에 오래 잡는 lock이 없도록 합니다.
+*/
+@Slf4j
+@Service
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final int batchSize;
+
+    public CommentCountReconciler(PostRepository postRepository,
+                                  @Value("${board.comment-count.reconcile-batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${board.comment-count.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${board.comment-count.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long afterId = 0;
+        int fixed = 0;
+
+        Long upToId;
+        while ((upToId = postRepository.findIdUpperBound(afterId, batchSize)) != null) {
+            fixed += postRepository.reconcileCommentCounts(afterId, upToId);
+            afterId = upToId;
+        }
+
+        if (fixed > 0) {
+            log.warn("Reconciled comment_count of {} posts", fixed);
+        }
+    }
+}
@@ -1,93 +1,224 @@
 package jsh.board.service;
 
+import jsh.board.cache.PostCache;
 import jsh.board.domain.Comment;
 import jsh.board.domain.Member;
 import jsh.board.domain.Post;
 import jsh.board.dto.CommentDto;
-import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.dto.ResourceVersion;
+import jsh.board.event.CommentAddedEvent;
+import jsh.board.event.CommentDeletedEvent;
+import jsh.board.event.CommentUpdatedEvent;
+import jsh.board.exception.ApplicationException;
+import jsh.board.exception.InvalidRequestException;
 import jsh.board.exception.ResourceNotFoundException;
 import jsh.board.exception.UnauthorizedOperationException;
-import jsh.board.repository.MemberRepository;
+import jsh.board.jwt.MemberPrincipal;
 import jsh.board.repository.CommentRepository;
+import jsh.board.repository.CommentRow;
+import jsh.board.repository.CommentTarget;
 import jsh.board.repository.PostRepository;
+import jsh.board.stream.CommentStreamHub;
+import jsh.board.support.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_THREAD_SIZE = 1000;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
-
+    private final CurrentMemberResolver currentMemberResolver;
+    private final PostCache postCache;
+    private final SingleFlight<CommentDto.PageKey, CommentDto.PageResponse> commentLoads;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentStreamHub commentStreamHub;
+
+    /*
+    * 게시글을 읽지 않고 댓글 수 증가 UPDATE의 영향 행 수로 존재 여부를 확인합니다.
+    * 작성자도 인증 주체의 ID로 참조만 걸어, 댓글이 몇 개든 UPDATE 한 번과 INSERT 한 번으로 끝나고
+    * 답글이면 부모 조회와 답글 수 증가가 더해집니다.
+    */
     @Transactional
     public Long addComment(Long postId, CommentDto.addRequest request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("게시글이 존재하지 않습니다."));
+        MemberPrincipal principal = currentMemberResolver.currentPrincipal();
+        Member author = currentMemberResolver.currentMember();
+        Comment parent = request.parentId() == null ? null : getParent(postId, request.parentId());
 
-        Member author = getCurrentMember();
+        if (postRepository.incrementCommentCount(postId) == 0) {
+            throw new ResourceNotFoundException("게시글이 존재하지 않습니다.");
+        }
+        if (parent != null) {
+            commentRepository.incrementReplyCount(parent.getId());
+        }
+        Post post = postRepository.getReferenceById(postId);
 
-        Comment comment = request.toEntity(post, author);
-        post.getComments().add(comment);
+        Comment comment = request.toEntity(post, author, parent);
 
         Comment savedComment = commentRepository.save(comment);
+        postCache.invalidate(postId);
+        eventPublisher.publishEvent(new CommentAddedEvent(postId, savedComment.getId(),
+                savedComment.getParentId(), savedComment.getContent(), principal.username()));
 
         return savedComment.getId();
     }
 
-    @Transactional(readOnly = true)
-    public List<CommentDto.Response> getComments(Long postId){
-        if (!postRepository.existsById(postId)){
+    /*
+    * Get Comments (keyset pagination, 오래된 순)
+    * 같은 페이지 동시 조회는 하나의 DB 로드로 합칩니다. (SUPPORTS: 대기 중에는 커넥션을 잡지 않음)
+    */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CommentDto.PageResponse getComments(Long postId, String cursor, int size){
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long afterId = (cursor == null || cursor.isBlank()) ? 0 : CommentDto.Cursor.decode(cursor).id();
+
+        CommentDto.PageKey key = new CommentDto.PageKey(postId, afterId, pageSize);
+        return commentLoads.execute(key, () -> loadComments(key));
+    }
+
+    private CommentDto.PageResponse loadComments(CommentDto.PageKey key) {
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        List<CommentRow> rows = commentRepository.findPage(key.postId(), key.afterId(), PageRequest.of(0, key.size() + 1));
+        if (rows.isEmpty()) {
             throw new ResourceNotFoundException("게시글이 존재하지 않습니다.");
         }
 
-        return commentRepository.findByPostId(postId).stream()
+        List<CommentRow> comments = rows.stream()
+                .filter(row -> row.getId() != null)
+                .collect(Collectors.toList());
+
+        boolean hasNext = comments.size() > key.size();
+        List<CommentDto.Response> page = comments.stream()
+                .limit(key.size())
                 .map(CommentDto.Response::from)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? new CommentDto.Cursor(page.get(page.size() - 1).id()).encode() : null;
+
+        return new CommentDto.PageResponse(page, nextCursor, hasNext);
     }
 
-    @Transactional
-    public void editComment(Long commentId, CommentDto.editRequest request) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("댓글이 존재하지 않습니다."));
+    private Comment getParent(Long postId, Long parentId) {
+        Comment parent = commentRepository.findById(parentId)
+                .filter(comment -> comment.getPost().getId().equals(postId))
+                .orElseThrow(() -> new ResourceNotFoundException("부모 댓글이 존재하지 않습니다."));
+
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("더 이상 답글을 달 수 없습니다.");
+        }
+        return parent;
+    }
 
-        Member editor = getCurrentMember();
-        if (!comment.getAuthor().getId().equals(editor.getId())) {
-            throw new UnauthorizedOperationException("본인이 작성한 댓글만 수정할 수 있습니다.");
+    /*
+    * Get Thread - 댓글과 모든 하위 답글
+    * path 순서(전위 순회)로 한 번에 읽으므로 부모가 항상 자식보다 먼저 오고, ID -> 노드 맵 하나로 O(n)에 트리를 만듭니다.
+    * 잘렸는지 알기 위해 한 건을 더 조회하고, 넘치면 MAX_THREAD_SIZE개까지만 조립해 truncated로 알립니다.
+    */
+    @Transactional(readOnly = true)
+    public CommentDto.ThreadPage getThread(Long postId, Long commentId) {
+        List<CommentRow> rows = commentRepository.findSubtree(postId, commentId, PageRequest.of(0, MAX_THREAD_SIZE + 1));
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("댓글이 존재하지 않습니다.");
+        }
+
+        boolean truncated = rows.size() > MAX_THREAD_SIZE;
+        if (truncated) {
+            rows = rows.subList(0, MAX_THREAD_SIZE);
         }
 
-        comment.update(request.content());
+        Map<Long, CommentDto.ThreadResponse> nodes = new HashMap<>(rows.size() * 2);
+        CommentDto.ThreadResponse root = CommentDto.ThreadResponse.from(rows.get(0));
+        nodes.put(root.id(), root);
+
+        for (CommentRow row : rows.subList(1, rows.size())) {
+            CommentDto.ThreadResponse node = CommentDto.ThreadResponse.from(row);
+            CommentDto.ThreadResponse parent = nodes.get(node.parentId());
+            // 크기 제한으로 잘려도 전위 순서의 앞부분이므로 부모는 항상 먼저 들어와 있습니다.
+            if (parent != null) {
+                parent.replies().add(node);
+                nodes.put(node.id(), node);
+            }
+        }
+        return new CommentDto.ThreadPage(root, truncated);
     }
 
-    @Transactional
-    public void deleteComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("댓글이 존재하지 않습니다."));
+    /*
+    * Subscribe Comments - 이 게시글의 댓글 추가/수정/삭제를 SSE로 받습니다.
+    * 존재 확인 쿼리가 끝나면 커넥션을 바로 돌려주므로, 열려 있는 구독은 커넥션을 잡지 않습니다.
+    */
+    public SseEmitter subscribe(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("게시글이 존재하지 않습니다.");
+        }
+        return commentStreamHub.subscribe(postId);
+    }
 
-        Member remover = getCurrentMember();
-        if (!comment.getAuthor().getId().equals(remover.getId())) {
-            throw new UnauthorizedOperationException("본인이 작성한 댓글만 삭제할 수 있습니다.");
+    /*
+    * 댓글 목록 검증자 - 조회한 페이지 자체로 계산하므로 목록 조회 외에 쿼리가 없고, 댓글 수와 관계없이 페이지 크기만큼만 계산합니다.
+    * 페이지에 보이는 값(댓글, 수정 시각, 답글 수, 다음 페이지 여부)이 같으면 같은 ETag입니다.
+    * 삭제는 마지막 변경 시각을 앞당기지 않으므로 Last-Modified 없이 ETag만 사용합니다.
+    */
+    public ResourceVersion getCommentsVersion(CommentDto.PageResponse page) {
+        List<Object> parts = new ArrayList<>(page.comments().size() * 3 + 1);
+        for (CommentDto.Response comment : page.comments()) {
+            parts.add(comment.id());
+            parts.add(comment.updatedAt());
+            parts.add(comment.replyCount());
+        }
+        parts.add(page.hasNext());
+        return ResourceVersion.strong(null, parts.toArray());
+    }
+
+    /*
+    * 게시글, 작성자 조건을 건 UPDATE 한 번으로 수정하고, 0건일 때만 없는 댓글인지 남의 댓글인지 확인합니다.
+    */
+    @Transactional
+    public void editComment(Long postId, Long commentId, CommentDto.editRequest request) {
+        Long memberId = currentMemberResolver.currentMemberId();
+        int updated = commentRepository.updateContentByIdAndAuthorId(postId, commentId, memberId,
+                request.content(), LocalDateTime.now());
+        if (updated == 0) {
+            throw notModifiable(postId, commentId, "본인이 작성한 댓글만 수정할 수 있습니다.");
         }
 
-        commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentUpdatedEvent(postId, commentId, request.content()));
     }
 
-    private Member getCurrentMember() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
-            throw new InvalidCredentialsException("로그인이 필요합니다.");
+    @Transactional
+    public void deleteComment(Long postId, Long commentId) {
+        Long memberId = currentMemberResolver.currentMemberId();
+        CommentTarget target = commentRepository.findTargetByIdAndAuthorId(postId, commentId, memberId)
+                .orElseThrow(() -> notModifiable(postId, commentId, "본인이 작성한 댓글만 삭제할 수 있습니다."));
+
+        // 답글까지 path prefix 범위로 한 번에 지우고, 지운 수만큼 게시글 댓글 수를 줄입니다.
+        int deleted = commentRepository.deleteSubtree(postId, target.getPath());
+        if (target.getParentId() != null) {
+            commentRepository.decrementReplyCount(target.getParentId());
         }
+        postRepository.decreaseCommentCount(postId, deleted);
+        postCache.invalidate(postId);
+        eventPublisher.publishEvent(new CommentDeletedEvent(postId, commentId));
+    }
 
-        String email = authentication.getName();
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+    private ApplicationException notModifiable(Long postId, Long commentId, String forbiddenMessage) {
+        if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+            return new ResourceNotFoundException("댓글이 존재하지 않습니다.");
+        }
+        return new UnauthorizedOperationException(forbiddenMessage);
     }
 }
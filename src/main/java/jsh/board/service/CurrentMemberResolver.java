@@ -0,0 +1,40 @@
+package jsh.board.service;
+
+import jsh.board.domain.Member;
+import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.jwt.MemberPrincipal;
+import jsh.board.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/*
+* 현재 로그인한 회원을 인증 주체의 회원 ID로 찾습니다.
+* 필터가 이미 토큰으로 확인한 회원이므로 다시 조회하지 않고, 작성자 지정에는 SELECT 없는 참조(프록시)를 씁니다.
+*/
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberResolver {
+
+    private final MemberRepository memberRepository;
+
+    public MemberPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof MemberPrincipal principal)) {
+            throw new InvalidCredentialsException("로그인이 필요합니다.");
+        }
+        return principal;
+    }
+
+    public Long currentMemberId() {
+        return currentPrincipal().id();
+    }
+
+    /*
+    * 연관관계 지정용 참조 - 필드에 접근하면 그때 조회되므로 ID 외의 값이 필요하면 currentPrincipal()을 사용합니다.
+    */
+    public Member currentMember() {
+        return memberRepository.getReferenceById(currentMemberId());
+    }
+}
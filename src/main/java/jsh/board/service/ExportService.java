@@ -0,0 +1,74 @@
+package jsh.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Post;
+import jsh.board.dto.ExportDto;
+import jsh.board.repository.CommentRepository;
+import jsh.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/*
+* 게시글/댓글 전체 NDJSON 내보내기
+* 게시글을 모두 쓴 뒤 댓글을 씁니다. (가져오기에서 댓글이 참조하는 게시글이 먼저 오도록)
+* 커서를 앞으로만 읽고 일정 건수마다 영속성 컨텍스트를 비워, 전체 건수와 관계없이 메모리 사용량이 일정합니다.
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int CLEAR_INTERVAL = 1_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+
+        long posts;
+        try (Stream<Post> stream = postRepository.streamAllForExport()) {
+            posts = writeLines(stream.iterator(), out, ExportDto.PostLine::from);
+        }
+
+        long comments;
+        try (Stream<Comment> stream = commentRepository.streamAllForExport()) {
+            comments = writeLines(stream.iterator(), out, ExportDto.CommentLine::from);
+        }
+
+        out.flush();
+        log.info("Exported {} posts and {} comments in {} ms",
+                posts, comments, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private <T> long writeLines(Iterator<T> rows, OutputStream out,
+                                Function<T, ?> toLine) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(toLine.apply(rows.next())));
+            out.write('\n');
+
+            if (++count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+        entityManager.clear();
+        return count;
+    }
+}
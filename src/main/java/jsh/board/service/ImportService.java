@@ -0,0 +1,184 @@
+package jsh.board.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+import jsh.board.dto.ImportDto;
+import jsh.board.event.PostCreatedEvent;
+import jsh.board.exception.InvalidRequestException;
+import jsh.board.repository.CommentRepository;
+import jsh.board.repository.MemberRepository;
+import jsh.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+* 게시글 일괄 가져오기
+* 요청 본문의 JSON 배열을 한 게시글씩 스트리밍으로 읽고, chunk-size개마다 별도 트랜잭션으로 저장합니다.
+* ID는 pooled 시퀀스에서 미리 할당받으므로 Hibernate가 INSERT를 JDBC batch로 묶어 보냅니다.
+* 실패하면 그 chunk만 롤백되고, 앞서 커밋된 chunk는 유지됩니다.
+*/
+@Slf4j
+@Service
+public class ImportService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ImportService(PostRepository postRepository,
+                         CommentRepository commentRepository,
+                         MemberRepository memberRepository,
+                         EntityManager entityManager,
+                         TransactionTemplate transactionTemplate,
+                         ObjectMapper objectMapper,
+                         Validator validator,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${board.import.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportDto.Result importPosts(InputStream inputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("게시글 배열이 필요합니다.");
+            }
+
+            List<ImportDto.PostRequest> chunk = new ArrayList<>(chunkSize);
+            // 배열이 닫힐 때까지 읽어, 객체가 아닌 요소나 잘린 본문을 일부만 가져온 채 성공으로 끝내지 않습니다.
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                long position = progress.posts + chunk.size() + 1;
+                if (token != JsonToken.START_OBJECT) {
+                    throw new InvalidRequestException((token == null
+                            ? position + "번째 게시글 전에 본문이 끝났습니다."
+                            : position + "번째 요소가 게시글 객체가 아닙니다: " + token)
+                            + " (앞서 가져온 게시글 " + progress.posts + "건은 반영되었습니다.)");
+                }
+                ImportDto.PostRequest request = objectMapper.readValue(parser, ImportDto.PostRequest.class);
+                validate(request, position, progress);
+                chunk.add(request);
+
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                    log.info("Imported {} posts and {} comments ({} rows/s)",
+                            progress.posts, progress.comments, String.format("%.1f", rowsPerSecond(progress, startedAt)));
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new InvalidRequestException("게시글 배열 뒤에 다른 내용이 있습니다.");
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, progress);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("잘못된 JSON 형식입니다: " + e.getOriginalMessage()
+                    + " (앞서 가져온 게시글 " + progress.posts + "건은 반영되었습니다.)");
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        double rowsPerSecond = rowsPerSecond(progress, startedAt);
+        log.info("Import finished: {} posts and {} comments in {} ms ({} rows/s)",
+                progress.posts, progress.comments, elapsedMillis, String.format("%.1f", rowsPerSecond));
+
+        return new ImportDto.Result(progress.posts, progress.comments, elapsedMillis, rowsPerSecond);
+    }
+
+    private void writeChunk(List<ImportDto.PostRequest> chunk, Progress progress) {
+        Set<Long> authorIds = new HashSet<>();
+        for (ImportDto.PostRequest request : chunk) {
+            authorIds.add(request.authorId());
+            request.commentsOrEmpty().forEach(comment -> authorIds.add(comment.authorId()));
+        }
+
+        int[] written = transactionTemplate.execute(status -> {
+            Set<Long> missing = new HashSet<>(authorIds);
+            missing.removeAll(memberRepository.findExistingIds(authorIds));
+            if (!missing.isEmpty()) {
+                throw new InvalidRequestException("존재하지 않는 작성자입니다: " + missing
+                        + " (앞서 가져온 게시글 " + progress.posts + "건은 반영되었습니다.)");
+            }
+
+            List<Post> posts = new ArrayList<>(chunk.size());
+            List<Comment> comments = new ArrayList<>();
+            for (ImportDto.PostRequest request : chunk) {
+                // 프록시 참조만 만들어 회원 SELECT 없이 FK만 채웁니다.
+                Post post = request.toEntity(memberRepository.getReferenceById(request.authorId()));
+                post.setCommentCount(request.commentsOrEmpty().size());
+                posts.add(post);
+                for (ImportDto.CommentRequest comment : request.commentsOrEmpty()) {
+                    Member author = memberRepository.getReferenceById(comment.authorId());
+                    comments.add(comment.toEntity(post, author));
+                }
+            }
+
+            postRepository.saveAll(posts);
+            commentRepository.saveAll(comments);
+            entityManager.flush();
+
+            posts.forEach(post ->
+                    eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), post.getTitle(), post.getContent())));
+            entityManager.clear();
+
+            return new int[]{posts.size(), comments.size()};
+        });
+
+        progress.posts += written[0];
+        progress.comments += written[1];
+    }
+
+    private void validate(ImportDto.PostRequest request, long position, Progress progress) {
+        Set<ConstraintViolation<ImportDto.PostRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ImportDto.PostRequest> violation = violations.iterator().next();
+            throw new InvalidRequestException(position + "번째 게시글이 올바르지 않습니다: "
+                    + violation.getPropertyPath() + " " + violation.getMessage()
+                    + " (앞서 가져온 게시글 " + progress.posts + "건은 반영되었습니다.)");
+        }
+    }
+
+    private static double rowsPerSecond(Progress progress, long startedAt) {
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return seconds == 0 ? 0 : (progress.posts + progress.comments) / seconds;
+    }
+
+    private static final class Progress {
+        private long posts;
+        private long comments;
+    }
+}
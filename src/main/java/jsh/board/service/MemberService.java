@@ -1,33 +1,48 @@
 package jsh.board.service;
 
+import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
+import jsh.board.cache.MemberSnapshot;
+import jsh.board.cache.MemberSnapshotCache;
 import jsh.board.domain.Member;
 import jsh.board.domain.RefreshToken;
 import jsh.board.domain.Role;
 import jsh.board.dto.MemberDto;
 import jsh.board.exception.DuplicateResourceException;
 import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.exception.ResourceNotFoundException;
 import jsh.board.exception.UnauthorizedOperationException;
 import jsh.board.jwt.JwtProvider;
+import jsh.board.jwt.MemberPrincipal;
+import jsh.board.jwt.TokenDenyList;
+import jsh.board.password.PasswordHasher;
 import jsh.board.repository.MemberRepository;
 import jsh.board.repository.RefreshTokenRepository;
+import jsh.board.support.Hashing;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Instant;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final TokenDenyList tokenDenyList;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /*
+    * 해시 계산을 기다리는 메서드(회원가입, 로그인, 비밀번호 변경)는 트랜잭션 없이 실행합니다.
+    * 조회는 조회대로 끝내 커넥션을 돌려준 뒤 해시하고, 쓰기만 짧은 트랜잭션으로 묶어 해시 대기 중에는 커넥션을 잡지 않습니다.
+    * 이메일/닉네임 중복은 unique 제약이 최종적으로 막습니다.
+    */
     public Long signUp(MemberDto.SignUpRequest request) {
         if (memberRepository.findByEmail(request.email()).isPresent()) {
             throw new DuplicateResourceException("이미 등록된 이메일입니다.");
@@ -37,34 +52,41 @@ public class MemberService {
             throw new DuplicateResourceException("이미 존재하는 닉네임입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(request.password());
+        String encodedPassword = passwordHasher.encode(request.password());
         Member member = request.toEntity(Role.USER, encodedPassword);
 
         return memberRepository.save(member).getId();
     }
 
-    @Transactional
     public Map<String, String> logIn(MemberDto.LogInRequest request) {
         Member member = memberRepository.findByEmail(request.email())
                 .orElseThrow(() -> new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+        if (!passwordHasher.matches(request.password(), member.getPassword())) {
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
+        // 설정된 cost가 바뀌었으면 평문을 알고 있는 지금 새 cost로 다시 해시해 아래 트랜잭션에서 저장합니다.
+        String rehashed = passwordHasher.needsRehash(member.getPassword())
+                ? passwordHasher.encode(request.password())
+                : null;
 
         String accessToken = jwtProvider.createAccessToken(member);
         String refreshTokenValue = jwtProvider.createRefreshToken(member);
 
-        Instant expiryDate = jwtProvider.parseClaims(refreshTokenValue).getExpiration().toInstant();
-        refreshTokenRepository.findByMemberId(member.getId())
-                .ifPresentOrElse(
-                        refreshToken -> refreshToken.updateToken(refreshTokenValue, expiryDate),
-                        () -> refreshTokenRepository.save(RefreshToken.builder()
-                                .member(member)
-                                .token(refreshTokenValue)
-                                .expiryDate(expiryDate)
-                                .build())
-                );
+        // 로그인마다 새 family를 시작하므로 다른 기기의 세션은 그대로 유지됩니다.
+        RefreshToken refreshToken = RefreshToken.builder()
+                .member(member)
+                .familyId(UUID.randomUUID().toString())
+                .tokenHash(Hashing.sha256Hex(refreshTokenValue))
+                .expiryDate(jwtProvider.parseClaims(refreshTokenValue).getExpiration().toInstant())
+                .build();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rehashed != null) {
+                // 그 사이 비밀번호가 바뀌었으면 바뀐 비밀번호를 덮어쓰지 않습니다.
+                memberRepository.updatePassword(member.getId(), member.getPassword(), rehashed);
+            }
+            refreshTokenRepository.save(refreshToken);
+        });
 
         return Map.of(
                 "accessToken", accessToken,
@@ -72,10 +94,90 @@ public class MemberService {
         );
     }
 
-    @Transactional
-    public void logOut(String email) {
-        Member member = memberRepository.findByEmail(email)
+    /*
+    * 토큰 재발급 (rotation) - 리프레시 토큰은 한 번만 쓸 수 있고, 쓸 때마다 같은 family의 새 토큰으로 교체됩니다.
+    * 같은 family에서 이미 교체된 토큰이 다시 쓰이면 재사용(탈취 의심)이므로 그 family(세션)를 폐기해 다시 로그인하도록 합니다.
+    * 다른 기기의 로그인은 별도 family라 영향을 주지 않습니다. 폐기는 예외와 함께 커밋됩니다.
+    */
+    @Transactional(dontRollbackOn = InvalidCredentialsException.class)
+    public Map<String, String> refresh(MemberDto.RefreshRequest request) {
+        Claims claims = jwtProvider.parseRefreshToken(request.refreshToken());
+        Long memberId = Long.parseLong(claims.getSubject());
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new InvalidCredentialsException("해당 유저를 찾을 수 없습니다."));
-        refreshTokenRepository.deleteByMemberId(member.getId());
+
+        // 로그아웃, 비밀번호 변경, 재사용 폐기로 지워진 토큰
+        String tokenHash = Hashing.sha256Hex(request.refreshToken());
+        RefreshToken current = refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(refreshToken -> refreshToken.getMember().getId().equals(memberId))
+                .orElseThrow(() -> new InvalidCredentialsException("유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."));
+
+        if (refreshTokenRepository.markRotated(tokenHash) == 0) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            throw new InvalidCredentialsException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        String refreshTokenValue = jwtProvider.createRefreshToken(member);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .member(member)
+                .familyId(current.getFamilyId())
+                .tokenHash(Hashing.sha256Hex(refreshTokenValue))
+                .expiryDate(jwtProvider.parseClaims(refreshTokenValue).getExpiration().toInstant())
+                .build());
+
+        return Map.of(
+                "accessToken", jwtProvider.createAccessToken(member),
+                "refreshToken", refreshTokenValue
+        );
+    }
+
+    /*
+    * 로그아웃 - 리프레시 토큰을 지우고, 지금 쓰던 access token도 만료 시각까지 거부합니다.
+    */
+    @Transactional
+    public void logOut(MemberPrincipal principal) {
+        refreshTokenRepository.deleteByMemberId(principal.id());
+        if (principal.tokenId() != null) {
+            tokenDenyList.revokeToken(principal.id(), principal.tokenId(), principal.tokenExpiresAt());
+        }
+    }
+
+    /*
+    * 비밀번호 변경 - 이전에 발급된 모든 토큰(다른 기기 포함)을 폐기합니다.
+    * 확인한 현재 비밀번호가 해시하는 사이 바뀌었으면 변경하지 않습니다.
+    */
+    public void changePassword(Long memberId, MemberDto.PasswordChangeRequest request) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+
+        if (!passwordHasher.matches(request.currentPassword(), member.getPassword())) {
+            throw new InvalidCredentialsException("현재 비밀번호가 올바르지 않습니다.");
+        }
+        String encodedPassword = passwordHasher.encode(request.newPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (memberRepository.updatePassword(memberId, member.getPassword(), encodedPassword) == 0) {
+                throw new InvalidCredentialsException("현재 비밀번호가 올바르지 않습니다.");
+            }
+            refreshTokenRepository.deleteByMemberId(memberId);
+            tokenDenyList.revokeAllTokens(memberId);
+        });
+    }
+
+    /*
+    * 권한 변경 - authVersion이 올라가고, 커밋 뒤 스냅샷 캐시에 반영되어 이전 토큰의 권한은 즉시 무시됩니다.
+    * 다른 인스턴스에는 변경 기록을 통해 동기화 주기(board.member-auth.sync-interval-ms) 안에 반영됩니다.
+    */
+    @Transactional
+    public MemberDto.Response changeRole(Long memberId, MemberDto.RoleRequest request) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+
+        long version = member.getAuthVersion();
+        member.updateRole(request.role());
+        if (member.getAuthVersion() != version) {
+            memberSnapshotCache.update(MemberSnapshot.from(member));
+        }
+        return MemberDto.Response.from(member);
     }
 }
@@ -0,0 +1,82 @@
+package jsh.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jsh.board.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/*
+* 삭제 표시된 게시글 정리 작업
+* 댓글을 batch-size개씩 DELETE로 지우고 순 방문자 sketch를 지운 뒤 게시글 행을 지웁니다. 문장마다 따로 커밋해 lock을 짧게 잡고,
+* batch 사이에 batch-pause-ms만큼 쉬어 복제 지연과 buffer pool 부담이 한꺼번에 몰리지 않게 합니다.
+*/
+@Slf4j
+@Service
+public class PostPurger {
+
+    private final PostRepository postRepository;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final int postsPerRun;
+    private final Counter purgedPosts;
+    private final Counter purgedComments;
+
+    public PostPurger(PostRepository postRepository, MeterRegistry meterRegistry,
+                      @Value("${board.post-purge.batch-size:500}") int batchSize,
+                      @Value("${board.post-purge.batch-pause-ms:100}") long batchPauseMillis,
+                      @Value("${board.post-purge.posts-per-run:100}") int postsPerRun) {
+        this.postRepository = postRepository;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.postsPerRun = postsPerRun;
+        this.purgedPosts = Counter.builder("board.post_purge.deleted")
+                .tag("table", "post")
+                .register(meterRegistry);
+        this.purgedComments = Counter.builder("board.post_purge.deleted")
+                .tag("table", "comment")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${board.post-purge.initial-delay-ms:30000}",
+            fixedDelayString = "${board.post-purge.interval-ms:60000}")
+    public void purge() {
+        List<Long> postIds = postRepository.findDeletedIds(postsPerRun);
+        try {
+            for (Long postId : postIds) {
+                purgePost(postId);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중이면 남은 게시글은 다음 실행(또는 다음 기동)에서 이어서 지웁니다.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void purgePost(long postId) throws InterruptedException {
+        int comments = 0;
+        int deleted;
+        do {
+            deleted = postRepository.deleteCommentsBatch(postId, batchSize);
+            comments += deleted;
+            purgedComments.increment(deleted);
+            pause();
+        } while (deleted == batchSize);
+
+        // 게시글 행보다 먼저 지워, 중간에 멈춰도 다음 실행에서 다시 지울 수 있게 합니다.
+        postRepository.deleteViewerSketch(postId);
+        if (postRepository.deleteMarkedPost(postId) > 0) {
+            purgedPosts.increment();
+            log.info("Purged post {} with {} comments", postId, comments);
+        }
+    }
+
+    private void pause() throws InterruptedException {
+        if (batchPauseMillis > 0) {
+            Thread.sleep(batchPauseMillis);
+        }
+    }
+}
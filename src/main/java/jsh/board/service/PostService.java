@@ -1,20 +1,32 @@
 package jsh.board.service;
 
+import jsh.board.cache.PostCache;
 import jsh.board.domain.Member;
 import jsh.board.domain.Post;
 import jsh.board.dto.PostDto;
-import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.dto.ResourceVersion;
+import jsh.board.event.PostCreatedEvent;
+import jsh.board.event.PostDeletedEvent;
+import jsh.board.event.PostUpdatedEvent;
+import jsh.board.event.PostViewedEvent;
+import jsh.board.exception.ApplicationException;
 import jsh.board.exception.ResourceNotFoundException;
 import jsh.board.exception.UnauthorizedOperationException;
-import jsh.board.repository.MemberRepository;
+import jsh.board.jwt.MemberPrincipal;
 import jsh.board.repository.PostRepository;
+import jsh.board.repository.PostSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,20 +34,27 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final ViewCountService viewCountService;
+    private final UniqueViewerService uniqueViewerService;
+    private final PostCache postCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
     * Create Post
     */
     @Transactional
     public Long createPost(PostDto.CreateRequest request) {
-        Member author = getCurrentMember();
+        // 작성자는 참조만 걸어 두므로 회원 조회 없이 INSERT 한 번으로 끝납니다.
+        Member author = currentMemberResolver.currentMember();
         Post post = request.toEntity(author);
-        author.addPost(post);
 
         // save to DB using Repository
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), savedPost.getTitle(), savedPost.getContent()));
 
         return savedPost.getId();
     }
@@ -43,8 +62,15 @@ public class PostService {
     /*
     * Find a Post by ID
     */
-    @Transactional(readOnly = true)
+    // SUPPORTS: 커넥션을 미리 잡지 않아, 캐시 miss를 기다리는 요청들이 커넥션 풀을 점유하지 않습니다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PostDto.Response findPostById(Long id) {
+        PostDto.Response post = postCache.get(id, this::loadPost);
+
+        return post.withViewStats(viewCountService.pendingOf(id), uniqueViewerService.estimate(id));
+    }
+
+    private PostDto.Response loadPost(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
 
@@ -52,67 +78,100 @@ public class PostService {
     }
 
     /*
-    * Increase View Count
+    * Post Version (조건부 GET 검증자)
+    * 캐시에서 꺼낸 응답으로 계산해, 캐시 hit이면 DB에 가지 않습니다. (수정/댓글 변경 시 캐시 항목이 무효화됨)
+    * 조회수/순 방문자 수는 매 조회마다 바뀌는 카운터라 검증자에서 제외하므로 weak ETag를 사용합니다.
+    * 댓글 추가/삭제는 commentCount만 바꾸고 수정 시각은 그대로 두므로 Last-Modified 없이 ETag만 사용합니다.
     */
-    @Transactional
-    public void increaseViewCount(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
+    public ResourceVersion getVersion(PostDto.Response post) {
+        return ResourceVersion.weak(null, post.id(), post.updatedAt(), post.commentCount());
+    }
 
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+    /*
+    * Increase View Count (DB 반영은 ViewCountService가 모아서 처리)
+    * 순 방문자는 로그인 회원이면 회원 기준, 아니면 클라이언트 지문 기준으로 집계합니다.
+    */
+    public void increaseViewCount(Long id, String clientFingerprint) {
+        viewCountService.increase(id);
+        uniqueViewerService.record(id, viewerKey(clientFingerprint));
+        eventPublisher.publishEvent(new PostViewedEvent(id));
     }
 
     /*
-    * Get All Post
+    * Get Posts (keyset pagination)
     */
     @Transactional(readOnly = true)
-    public List<PostDto.Response> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(PostDto.Response::from)
+    public PostDto.PageResponse getPosts(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummary> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPage(limit);
+        } else {
+            PostDto.Cursor after = PostDto.Cursor.decode(cursor);
+            posts = postRepository.findPageAfter(after.createdTime(), after.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<PostDto.SummaryResponse> page = posts.stream()
+                .limit(pageSize)
+                .map(PostDto.SummaryResponse::from)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? PostDto.Cursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return new PostDto.PageResponse(page, nextCursor, hasNext);
     }
 
     /*
-    * Update Post
+    * Update Post - 작성자 조건을 건 UPDATE 한 번으로 처리하고, 0건일 때만 없는 게시글인지 남의 게시글인지 확인합니다.
     */
     @Transactional
     public void updatePost(Long id, PostDto.UpdateRequest request) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
-
-        Member updater = getCurrentMember();
-        if (!post.getAuthor().getId().equals(updater.getId())) {
-            throw new UnauthorizedOperationException("본인이 작성한 게시글만 수정할 수 있습니다.");
+        Long memberId = currentMemberResolver.currentMemberId();
+        int updated = postRepository.updateByIdAndAuthorId(id, memberId,
+                request.title(), request.content(), LocalDateTime.now());
+        if (updated == 0) {
+            throw notUpdatable(id, "본인이 작성한 게시글만 수정할 수 있습니다.");
         }
 
-        post.update(request.title(), request.content());
+        postCache.invalidate(id);
+        eventPublisher.publishEvent(new PostUpdatedEvent(id, request.title(), request.content()));
     }
 
     /*
-    * Delete Post
+    * Delete Post - 작성자 조건을 건 UPDATE로 삭제 표시만 하고, 댓글, 순 방문자 sketch, 게시글 행은 PostPurger가 나중에 나눠서 지웁니다.
+    * 그 외에는 메모리 정리만 하므로 요청 경로의 쿼리는 UPDATE 한 문장입니다.
     */
     @Transactional
     public void deletePost(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
-
-        Member deleter = getCurrentMember();
-        if (!post.getAuthor().getId().equals(deleter.getId())) {
-            throw new UnauthorizedOperationException("본인이 작성한 게시글만 삭제할 수 있습니다.");
+        Long memberId = currentMemberResolver.currentMemberId();
+        if (postRepository.softDeleteByIdAndAuthorId(id, memberId, LocalDateTime.now()) == 0) {
+            throw notUpdatable(id, "본인이 작성한 게시글만 삭제할 수 있습니다.");
         }
 
-        postRepository.delete(post);
+        postCache.invalidate(id);
+        viewCountService.discard(id);
+        uniqueViewerService.discard(id);
+        eventPublisher.publishEvent(new PostDeletedEvent(id));
+    }
+
+    private ApplicationException notUpdatable(Long id, String forbiddenMessage) {
+        if (!postRepository.existsById(id)) {
+            return new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        return new UnauthorizedOperationException(forbiddenMessage);
     }
 
-    private Member getCurrentMember() {
+    private String viewerKey(String clientFingerprint) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
-            throw new InvalidCredentialsException("로그인이 필요합니다.");
+            return "anonymous:" + clientFingerprint;
         }
-
-        String email = authentication.getName();
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return "member:" + principal.id();
+        }
+        return "member:" + authentication.getName();
     }
 }
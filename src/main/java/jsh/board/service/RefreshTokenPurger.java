@@ -0,0 +1,31 @@
+package jsh.board.service;
+
+import jsh.board.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/*
+* 만료된 리프레시 토큰 정리 작업
+* 재발급 때마다 교체된 토큰이 재사용 확인용으로 남으므로, 만료된 행(교체 여부와 관계없이 더는 쓸 수 없음)을 지웁니다.
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${board.refresh-token.purge-interval-ms}")
+    public void purge() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now(clock));
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+}
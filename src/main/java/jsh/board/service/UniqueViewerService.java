@@ -0,0 +1,140 @@
+package jsh.board.service;
+
+import jakarta.annotation.PreDestroy;
+import jsh.board.domain.PostViewerSketch;
+import jsh.board.repository.PostViewerSketchRepository;
+import jsh.board.support.Hashing;
+import jsh.board.support.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+* 게시글별 순 방문자 수 추정
+* 방문자 키(회원 또는 클라이언트 지문)를 HyperLogLog에 반영하므로 게시글당 메모리는 트래픽과 무관하게 4KB입니다.
+* 최근 조회된 게시글의 sketch만 메모리에 두고, 변경분은 주기적으로 DB의 sketch와 병합해 저장합니다.
+*/
+@Slf4j
+@Service
+public class UniqueViewerService {
+
+    private final PostViewerSketchRepository sketchRepository;
+    private final long idleTimeoutNanos;
+
+    private final ConcurrentMap<Long, TrackedSketch> sketches = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    public UniqueViewerService(PostViewerSketchRepository sketchRepository,
+                               @Value("${board.unique-viewer.idle-timeout:10m}") Duration idleTimeout) {
+        this.sketchRepository = sketchRepository;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    public void record(Long postId, String viewerKey) {
+        if (sketchOf(postId).offer(Hashing.hash64(viewerKey))) {
+            dirtyPostIds.add(postId);
+        }
+    }
+
+    public long estimate(Long postId) {
+        return sketchOf(postId).estimate();
+    }
+
+    /*
+    * 이 인스턴스의 메모리에서만 버립니다. DB의 sketch 행은 PostPurger가 게시글과 함께 지웁니다.
+    */
+    public void discard(Long postId) {
+        sketches.remove(postId);
+        dirtyPostIds.remove(postId);
+    }
+
+    private HyperLogLog sketchOf(Long postId) {
+        TrackedSketch tracked = sketches.get(postId);
+        if (tracked == null) {
+            // DB 조회는 map lock 밖에서 수행하고, 경쟁에서 진 쪽은 먼저 올라간 sketch를 사용합니다.
+            HyperLogLog loaded = sketchRepository.findById(postId)
+                    .map(sketch -> HyperLogLog.fromBytes(sketch.getRegisters()))
+                    .orElseGet(HyperLogLog::new);
+            TrackedSketch created = new TrackedSketch(loaded);
+            TrackedSketch existing = sketches.putIfAbsent(postId, created);
+            tracked = existing != null ? existing : created;
+        }
+        tracked.lastAccessNanos = System.nanoTime();
+        return tracked.sketch;
+    }
+
+    @Scheduled(fixedDelayString = "${board.unique-viewer.flush-interval-ms:30000}")
+    public void flush() {
+        persistDirtySketches();
+        evictIdleSketches();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        persistDirtySketches();
+    }
+
+    /*
+    * 다른 인스턴스가 저장한 레지스터와 병합(레지스터별 최댓값)한 뒤 저장합니다.
+    */
+    private void persistDirtySketches() {
+        if (dirtyPostIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = new ArrayList<>(dirtyPostIds);
+        postIds.forEach(dirtyPostIds::remove);
+
+        try {
+            Map<Long, PostViewerSketch> stored = sketchRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(PostViewerSketch::getPostId, Function.identity()));
+
+            List<PostViewerSketch> changed = new ArrayList<>();
+            for (Long postId : postIds) {
+                TrackedSketch tracked = sketches.get(postId);
+                if (tracked == null) {
+                    continue;
+                }
+
+                PostViewerSketch row = stored.get(postId);
+                if (row == null) {
+                    changed.add(new PostViewerSketch(postId, tracked.sketch.toBytes()));
+                } else {
+                    tracked.sketch.merge(row.getRegisters());
+                    row.updateRegisters(tracked.sketch.toBytes());
+                    changed.add(row);
+                }
+            }
+            sketchRepository.saveAll(changed);
+        } catch (RuntimeException e) {
+            dirtyPostIds.addAll(postIds);
+            log.warn("Failed to persist unique viewer sketches for {} posts", postIds.size(), e);
+        }
+    }
+
+    private void evictIdleSketches() {
+        long now = System.nanoTime();
+        sketches.entrySet().removeIf(entry -> !dirtyPostIds.contains(entry.getKey())
+                && now - entry.getValue().lastAccessNanos > idleTimeoutNanos);
+    }
+
+    private static final class TrackedSketch {
+        private final HyperLogLog sketch;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private TrackedSketch(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+    }
+}
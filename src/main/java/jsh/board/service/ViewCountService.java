@@ -0,0 +1,91 @@
+package jsh.board.service;
+
+import jakarta.annotation.PreDestroy;
+import jsh.board.cache.PostCache;
+import jsh.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+* 조회수 write-behind 버퍼
+* 조회 시에는 게시글별 LongAdder에만 더하고, 주기적으로 모인 증가분을 한 번에 DB에 반영합니다.
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final PostRepository postRepository;
+    private final PostCache postCache;
+
+    private final ConcurrentMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void increase(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /*
+    * 아직 DB에 반영되지 않은 조회수
+    */
+    public long pendingOf(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public void discard(Long postId) {
+        pendingViews.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                retire(postId, adder);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postRepository.addViewCounts(deltas);
+            // 캐시된 응답의 조회수 기준값이 DB보다 뒤처지지 않도록 반영된 증가분을 캐시 항목에 더합니다.
+            deltas.forEach(postCache::addFlushedViews);
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 버리지 않고 다음 flush에서 다시 시도합니다.
+            deltas.forEach((postId, delta) -> pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            log.warn("Failed to flush view counts for {} posts", deltas.size(), e);
+        }
+    }
+
+    /*
+    * 한 주기 동안 조회가 없던 게시글의 adder를 맵에서 내려, 한 번이라도 조회된 게시글이 계속 쌓이지 않게 합니다.
+    * 제거 직전에 이 adder를 받아 간 조회가 있으면 남은 값을 새 adder로 옮깁니다.
+    */
+    private void retire(Long postId, LongAdder adder) {
+        if (pendingViews.remove(postId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
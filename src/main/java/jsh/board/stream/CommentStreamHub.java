@@ -0,0 +1,190 @@
+package jsh.board.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+* 게시글별 댓글 이벤트 SSE 구독자 관리 (fan-out hub)
+* 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 구독자는 스레드를 잡지 않습니다.
+* 이벤트는 구독자마다 크기가 제한된 큐에 넣고, 큐에 쌓인 것이 있을 때만 가상 스레드 하나가 비웁니다.
+* 소켓 쓰기가 막힌 느린 구독자 때문에 발행자나 다른 구독자가 기다리지 않으며, 큐가 가득 찬 구독자는 연결을 닫습니다.
+* (클라이언트는 EventSource 재연결 후 댓글 목록을 다시 조회하면 됩니다.)
+*/
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    private static final String HEARTBEAT = "ping";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter dropped;
+
+    public CommentStreamHub(CommentStreamProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = properties.bufferSize();
+        this.timeoutMillis = properties.timeout().toMillis();
+
+        Gauge.builder("board.comment_stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open comment stream connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("board.comment_stream.dropped")
+                .description("Subscribers closed because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(postId, emitter);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        // 첫 이벤트가 오기 전에 응답 헤더를 내보내 연결이 열렸음을 알립니다.
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    // 테스트에서 소켓 쓰기를 대신할 수 있도록 emitter 생성만 분리해 둡니다.
+    protected SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /*
+    * 이벤트를 한 번만 직렬화해 해당 게시글의 모든 구독자 큐에 넣습니다. 쓰기는 기다리지 않습니다.
+    */
+    public void publish(Long postId, String name, Object payload) {
+        Set<Subscriber> targets = subscribers.get(postId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} event of post {}", name, postId, e);
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON)
+                .build();
+        targets.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    /*
+    * 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊긴 클라이언트를 쓰기 실패로 찾아냅니다.
+    */
+    @Scheduled(fixedDelayString = "${board.comment-stream.heartbeat-interval-ms}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event().comment(HEARTBEAT).build();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.offer(event)));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.postId, (postId, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // 느린 구독자 - 버퍼가 가득 찼으므로 더 기다리지 않고 연결을 닫습니다.
+                // 이때 drain 스레드는 소켓 쓰기에 막혀 emitter의 쓰기 lock을 잡고 있을 수 있으므로,
+                // 발행 스레드(댓글 작성 요청)는 구독자를 빼기만 하고 complete()는 다른 스레드에서 기다립니다.
+                dropped.increment();
+                remove(this);
+                senders.execute(emitter::complete);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Set<ResponseBodyEmitter.DataWithMediaType> event = queue.poll();
+                    if (event == null) {
+                        draining.set(false);
+                        // 플래그를 내린 사이에 들어온 이벤트가 있으면 이 스레드가 이어서 보냅니다.
+                        if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    if (closed.get()) {
+                        return;
+                    }
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 emitter
+                remove(this);
+                draining.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package jsh.board.stream;
+
+import jsh.board.event.CommentAddedEvent;
+import jsh.board.event.CommentDeletedEvent;
+import jsh.board.event.CommentUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+* 커밋된 댓글 변경만 구독자에게 보냅니다.
+*/
+@Component
+@RequiredArgsConstructor
+public class CommentStreamListener {
+
+    private final CommentStreamHub commentStreamHub;
+
+    @TransactionalEventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        commentStreamHub.publish(event.postId(), "comment-added", event);
+    }
+
+    @TransactionalEventListener
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        commentStreamHub.publish(event.postId(), "comment-updated", event);
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        commentStreamHub.publish(event.postId(), "comment-deleted", event);
+    }
+}
@@ -0,0 +1,12 @@
+package jsh.board.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.comment-stream")
+public record CommentStreamProperties(
+        int bufferSize,
+        Duration timeout
+) {
+}
@@ -0,0 +1,62 @@
+package jsh.board.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+* 여러 인스턴스가 함께 쓰는 변경 기록 테이블(토큰 폐기, 권한 변경)을 주기적으로 읽어 새 행만 돌려줍니다.
+* IDENTITY ID는 커밋 순서와 달라 "마지막으로 본 ID 이후"로 읽으면 늦게 커밋된 작은 ID를 영영 놓칠 수 있습니다.
+* 그래서 생성 시각 기준으로 직전 동기화 시각 - WINDOW부터 다시 읽고, 이미 돌려준 ID는 건너뜁니다.
+* WINDOW는 행을 만든 트랜잭션이 커밋되기까지의 시간과 인스턴스 간 시계 차이보다 충분히 커야 합니다.
+* 첫 동기화(기동 시)는 만료되지 않은 행을 모두 읽습니다.
+*/
+public class ChangeFeed<T> {
+
+    public static final Duration WINDOW = Duration.ofMinutes(2);
+
+    private final Supplier<List<T>> loadAll;
+    private final Function<Instant, List<T>> loadCreatedSince;
+    private final Function<T, Long> idOf;
+    private final Function<T, Instant> createdAtOf;
+    private final Clock clock;
+
+    // 다음 조회 구간에 다시 나올 수 있는 행의 ID -> 생성 시각
+    private final Map<Long, Instant> seen = new HashMap<>();
+    private Instant syncedAt;
+
+    public ChangeFeed(Supplier<List<T>> loadAll, Function<Instant, List<T>> loadCreatedSince,
+                      Function<T, Long> idOf, Function<T, Instant> createdAtOf, Clock clock) {
+        this.loadAll = loadAll;
+        this.loadCreatedSince = loadCreatedSince;
+        this.idOf = idOf;
+        this.createdAtOf = createdAtOf;
+        this.clock = clock;
+    }
+
+    public synchronized List<T> poll() {
+        // 조회 전에 시각을 잡아, 조회 중에 생긴 행도 다음 구간에 포함되게 합니다.
+        Instant now = Instant.now(clock);
+        List<T> rows = syncedAt == null ? loadAll.get() : loadCreatedSince.apply(syncedAt.minus(WINDOW));
+
+        List<T> fresh = new ArrayList<>();
+        for (T row : rows) {
+            Instant createdAt = createdAtOf.apply(row);
+            if (seen.putIfAbsent(idOf.apply(row), createdAt == null ? Instant.EPOCH : createdAt) == null) {
+                fresh.add(row);
+            }
+        }
+
+        // 다음 조회 구간(now - WINDOW 이후 생성)에 다시 나오지 않을 ID는 잊습니다.
+        Instant horizon = now.minus(WINDOW);
+        seen.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+        syncedAt = now;
+        return fresh;
+    }
+}
@@ -0,0 +1,41 @@
+package jsh.board.trending;
+
+import jsh.board.event.CommentAddedEvent;
+import jsh.board.event.PostDeletedEvent;
+import jsh.board.event.PostUpdatedEvent;
+import jsh.board.event.PostViewedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+* 조회/댓글 이벤트를 인기 게시글 점수에 반영합니다.
+* 조회는 트랜잭션 밖에서 발생하므로 바로, 나머지는 커밋된 뒤에 반영합니다.
+*/
+@Component
+@RequiredArgsConstructor
+public class TrendingListener {
+
+    private final TrendingService trendingService;
+
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        trendingService.recordView(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        trendingService.recordComment(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        trendingService.updateTitle(event.postId(), event.title());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        trendingService.remove(event.postId());
+    }
+}
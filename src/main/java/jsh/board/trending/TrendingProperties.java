@@ -0,0 +1,14 @@
+package jsh.board.trending;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "board.trending")
+public record TrendingProperties(
+        int size,
+        Duration halfLife,
+        double viewWeight,
+        double commentWeight
+) {
+}
@@ -0,0 +1,231 @@
+package jsh.board.trending;
+
+import jsh.board.cache.PostCache;
+import jsh.board.dto.PostDto;
+import jsh.board.repository.PostRepository;
+import jsh.board.repository.PostSummary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+* 인기 게시글 (시간 감쇠 점수 + 상위 K개 유지)
+* 점수는 forward decay로 저장합니다: 이벤트 가중치 * e^(λ(t - landmark)).
+* 모든 게시글이 같은 비율로 감쇠하므로 새 이벤트가 없는 글끼리의 순위는 변하지 않고,
+* 이벤트가 들어온 글 하나만 상위 K개 집합에서 다시 자리를 찾으면 됩니다. (O(log K))
+* 조회는 상위 K개만 현재 시각 기준으로 환산해 반환하며, 제목을 아직 모르는 게시글이 있을 때만 DB를 거칩니다.
+*/
+@Service
+public class TrendingService {
+
+    // 지수가 이 값을 넘기 전에 landmark를 현재로 옮겨 double overflow를 막습니다.
+    private static final double MAX_EXPONENT = 50;
+    // 현재 기준 점수가 이보다 작아진 게시글은 정리 주기에 제거합니다.
+    private static final double PRUNE_THRESHOLD = 0.01;
+
+    private static final Comparator<Entry> BY_SCORE_DESC = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparingLong(entry -> entry.postId);
+
+    private final PostCache postCache;
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final int size;
+    private final double viewWeight;
+    private final double commentWeight;
+    private final double decayPerMilli;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> top = new TreeSet<>(BY_SCORE_DESC);
+    private long landmarkMillis;
+
+    private static final class Entry {
+        private final long postId;
+        private double score;
+        private String title;
+
+        private Entry(long postId) {
+            this.postId = postId;
+        }
+    }
+
+    public TrendingService(TrendingProperties properties, PostCache postCache, PostRepository postRepository, Clock clock) {
+        this.postCache = postCache;
+        this.postRepository = postRepository;
+        this.clock = clock;
+        this.size = properties.size();
+        this.viewWeight = properties.viewWeight();
+        this.commentWeight = properties.commentWeight();
+        this.decayPerMilli = Math.log(2) / properties.halfLife().toMillis();
+        this.landmarkMillis = clock.millis();
+    }
+
+    public void recordView(Long postId) {
+        record(postId, viewWeight);
+    }
+
+    public void recordComment(Long postId) {
+        record(postId, commentWeight);
+    }
+
+    /*
+    * Get Trending Posts - O(K)
+    * 제목은 점수를 기록할 때 게시글 캐시에 있던 값을 사용하고, 그때 몰랐던 제목만 한 번의 IN 조회로 채웁니다.
+    */
+    public List<PostDto.TrendingResponse> getTrending() {
+        fillMissingTitles();
+        long now = clock.millis();
+
+        lock.lock();
+        try {
+            double decay = Math.exp(-decayPerMilli * (now - landmarkMillis));
+            List<PostDto.TrendingResponse> trending = new ArrayList<>(top.size());
+            for (Entry entry : top) {
+                trending.add(new PostDto.TrendingResponse(entry.postId, entry.title, entry.score * decay));
+            }
+            return trending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void updateTitle(Long postId, String title) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(postId);
+            if (entry != null) {
+                entry.title = title;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.lock();
+        try {
+            Entry entry = entries.remove(postId);
+            // 상위 K개에서 빠지면 남은 게시글 중에서 다시 채웁니다. (삭제는 드물어 O(N)으로 충분)
+            if (entry != null && top.remove(entry)) {
+                rebuildTopLocked();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    * landmark를 현재로 옮기고, 충분히 식은 게시글을 정리합니다.
+    */
+    @Scheduled(fixedDelayString = "${board.trending.maintenance-interval-ms:600000}")
+    public void rescale() {
+        long now = clock.millis();
+
+        lock.lock();
+        try {
+            rescaleLocked(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(Long postId, double weight) {
+        long now = clock.millis();
+
+        lock.lock();
+        try {
+            if (decayPerMilli * (now - landmarkMillis) > MAX_EXPONENT) {
+                rescaleLocked(now);
+            }
+
+            Entry entry = entries.computeIfAbsent(postId, Entry::new);
+            if (entry.title == null) {
+                PostDto.Response cached = postCache.peek(postId);
+                entry.title = cached == null ? null : cached.title();
+            }
+
+            // TreeSet 안의 원소는 점수를 바꾸기 전에 꺼냈다가 다시 넣어야 합니다.
+            top.remove(entry);
+            entry.score += weight * Math.exp(decayPerMilli * (now - landmarkMillis));
+            offerLocked(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    * 채운 제목은 Entry에 남으므로, 새로 상위 K개에 들어온 게시글이 없으면 쿼리가 없습니다.
+    * DB 조회는 lock 밖에서 수행합니다.
+    */
+    private void fillMissingTitles() {
+        List<Long> missing = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Entry entry : top) {
+                if (entry.title == null) {
+                    missing.add(entry.postId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        List<PostSummary> posts = postRepository.findSummariesByIdIn(missing);
+        lock.lock();
+        try {
+            for (PostSummary post : posts) {
+                Entry entry = entries.get(post.getId());
+                if (entry != null && entry.title == null) {
+                    entry.title = post.getTitle();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void offerLocked(Entry entry) {
+        if (top.size() < size) {
+            top.add(entry);
+            return;
+        }
+        if (BY_SCORE_DESC.compare(entry, top.last()) < 0) {
+            top.add(entry);
+            top.pollLast();
+        }
+    }
+
+    private void rescaleLocked(long now) {
+        double decay = Math.exp(-decayPerMilli * (now - landmarkMillis));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            entry.score *= decay;
+            if (entry.score < PRUNE_THRESHOLD) {
+                iterator.remove();
+            }
+        }
+        landmarkMillis = now;
+        rebuildTopLocked();
+    }
+
+    private void rebuildTopLocked() {
+        top.clear();
+        for (Entry entry : entries.values()) {
+            offerLocked(entry);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package jsh.board.comment;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jsh.board.controller.CommentController;
 import jsh.board.dto.CommentDto;
+import jsh.board.dto.ResourceVersion;
 import jsh.board.service.CommentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -72,20 +73,41 @@ public class CommentControllerTest {
         // given
         Long postId = 1L;
         List<CommentDto.Response> commentList = List.of(
-                new CommentDto.Response(1L, "comment 1", "author 1", LocalDateTime.now(), null),
-                new CommentDto.Response(2L, "comment 2", "author 2", LocalDateTime.now(), null)
+                new CommentDto.Response(1L, "comment 1", "author 1", 0, LocalDateTime.now(), null),
+                new CommentDto.Response(2L, "comment 2", "author 2", 0, LocalDateTime.now(), null)
         );
-        given(commentService.getComments(postId)).willReturn(commentList);
+        CommentDto.PageResponse page = new CommentDto.PageResponse(commentList, "next", true);
+        given(commentService.getComments(postId, "abc", 2)).willReturn(page);
+        given(commentService.getCommentsVersion(page)).willReturn(new ResourceVersion("\"v1\"", -1));
 
         // when & then
-        mockMvc.perform(get("/api/posts/{id}/comments", postId))
+        mockMvc.perform(get("/api/posts/{id}/comments", postId).param("cursor", "abc").param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].content").value("comment 2"))
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(jsonPath("$.comments", hasSize(2)))
+                .andExpect(jsonPath("$.comments[0].id").value(1))
+                .andExpect(jsonPath("$.comments[1].content").value("comment 2"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
                 .andDo(print());
 
-        verify(commentService).getComments(postId);
+        verify(commentService).getComments(postId, "abc", 2);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 ETag가 일치하면 304 반환")
+    void getComments_notModified() throws Exception {
+        // given
+        Long postId = 1L;
+        CommentDto.PageResponse page = new CommentDto.PageResponse(List.of(), null, false);
+        given(commentService.getComments(postId, null, 20)).willReturn(page);
+        given(commentService.getCommentsVersion(page)).willReturn(new ResourceVersion("\"v1\"", -1));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}/comments", postId).header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
     }
 
     @Test
@@ -97,19 +119,16 @@ public class CommentControllerTest {
         CommentDto.editRequest request = new CommentDto.editRequest("updated comment");
         String json = objectMapper.writeValueAsString(request);
 
-        // 참고: 현재 Controller의 @PutMapping은 commentId가 아닌 postId를 받습니다.
-        // 따라서 commentService.editComment 호출 시 postId가 전달됩니다.
-        willDoNothing().given(commentService).editComment(eq(postId), any(CommentDto.editRequest.class));
-
+        willDoNothing().given(commentService).editComment(eq(postId), eq(commentId), any(CommentDto.editRequest.class));
 
         // when & then
-        mockMvc.perform(put("/api/posts/{id}/comments", postId)
+        mockMvc.perform(put("/api/posts/{id}/comments/{commentId}", postId, commentId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(commentService).editComment(eq(postId), any(CommentDto.editRequest.class));
+        verify(commentService).editComment(eq(postId), eq(commentId), any(CommentDto.editRequest.class));
     }
 
     @Test
@@ -119,15 +138,13 @@ public class CommentControllerTest {
         Long postId = 1L; // 경로 변수
         Long commentId = 10L; // 삭제 대상 댓글 ID
 
-        // 참고: 현재 Controller의 @DeleteMapping은 commentId가 아닌 postId를 받습니다.
-        // 따라서 commentService.deleteComment 호출 시 postId가 전달됩니다.
-        willDoNothing().given(commentService).deleteComment(postId);
+        willDoNothing().given(commentService).deleteComment(postId, commentId);
 
         // when & then
-        mockMvc.perform(delete("/api/posts/{id}/comments", postId))
+        mockMvc.perform(delete("/api/posts/{id}/comments/{commentId}", postId, commentId))
                 .andExpect(status().isNoContent())
                 .andDo(print());
 
-        verify(commentService).deleteComment(postId);
+        verify(commentService).deleteComment(postId, commentId);
     }
 }
\ No newline at end of file
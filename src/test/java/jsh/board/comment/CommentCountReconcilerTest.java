@@ -0,0 +1,37 @@
+package jsh.board.comment;
+
+import jsh.board.repository.PostRepository;
+import jsh.board.service.CommentCountReconciler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentCountReconcilerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("게시글 ID 구간을 batch 크기씩 이어서 끝까지 보정한다")
+    void reconcileWalksAllBatches() {
+        // given
+        CommentCountReconciler reconciler = new CommentCountReconciler(postRepository, 2);
+        when(postRepository.findIdUpperBound(0L, 2)).thenReturn(5L);
+        when(postRepository.findIdUpperBound(5L, 2)).thenReturn(9L);
+        when(postRepository.findIdUpperBound(9L, 2)).thenReturn(null);
+        when(postRepository.reconcileCommentCounts(anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(postRepository).reconcileCommentCounts(0L, 5L);
+        verify(postRepository).reconcileCommentCounts(5L, 9L);
+        verify(postRepository, times(2)).reconcileCommentCounts(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,121 @@
+package jsh.board.comment;
+
+import jakarta.persistence.EntityManagerFactory;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+import jsh.board.domain.Role;
+import jsh.board.repository.CommentRepository;
+import jsh.board.repository.MemberRepository;
+import jsh.board.repository.PostRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class CommentQueryCountTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void configurationProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", mysql::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long createPostWithComments(String suffix, int commentCount) {
+        List<Member> authors = new ArrayList<>();
+        for (int i = 0; i < Math.min(commentCount, 10) + 1; i++) {
+            authors.add(memberRepository.save(Member.builder()
+                    .email("writer" + suffix + i + "@example.com")
+                    .password("encoded")
+                    .username("writer" + suffix + i)
+                    .role(Role.USER)
+                    .build()));
+        }
+
+        Post post = postRepository.save(Post.builder()
+                .title("title")
+                .content("content")
+                .author(authors.get(0))
+                .build());
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(Comment.builder()
+                    .content("comment " + i)
+                    .post(post)
+                    .author(authors.get(i % authors.size()))
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+        return post.getId();
+    }
+
+    // 컨트롤러부터 요청 전체(ETag 계산 포함)를 실행해 SQL 수를 셉니다.
+    private long statementsFor(Long postId, int size) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/posts/{id}/comments", postId).param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.comments[*].author", everyItem(notNullValue())));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 요청은 댓글/작성자 수와 관계없이 SQL 한 번으로 끝난다")
+    void commentListingUsesConstantStatements() throws Exception {
+        // given
+        Long fewComments = createPostWithComments("a", 2);
+        Long manyComments = createPostWithComments("b", 200);
+
+        // when
+        long fewStatements = statementsFor(fewComments, 100);
+        long manyStatements = statementsFor(manyComments, 100);
+
+        // then
+        assertThat(fewStatements).isEqualTo(1);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+}
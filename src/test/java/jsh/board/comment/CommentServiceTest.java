@@ -1,33 +1,55 @@
 package jsh.board.comment;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.PostCache;
 import jsh.board.domain.Comment;
 import jsh.board.domain.Member;
 import jsh.board.domain.Post;
 import jsh.board.domain.Role;
 import jsh.board.dto.CommentDto;
+import jsh.board.event.CommentDeletedEvent;
+import jsh.board.event.CommentUpdatedEvent;
 import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.exception.ResourceNotFoundException;
 import jsh.board.exception.UnauthorizedOperationException;
+import jsh.board.jwt.MemberPrincipal;
 import jsh.board.repository.CommentRepository;
+import jsh.board.repository.CommentRow;
+import jsh.board.repository.CommentTarget;
 import jsh.board.repository.MemberRepository;
 import jsh.board.repository.PostRepository;
 import jsh.board.service.CommentService;
+import jsh.board.service.CurrentMemberResolver;
+import jsh.board.stream.CommentStreamHub;
+import jsh.board.support.SingleFlight;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,15 +62,28 @@ public class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private PostRepository postRepository;
+    // 실제 resolver가 인증 주체의 회원 ID로 참조를 만드는지 확인하기 위해 mock 저장소를 직접 연결합니다.
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    @Spy
+    private CurrentMemberResolver currentMemberResolver = new CurrentMemberResolver(memberRepository);
     @Mock
-    private MemberRepository memberRepository;
+    private PostCache postCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CommentStreamHub commentStreamHub;
+    @Spy
+    private SingleFlight<CommentDto.PageKey, CommentDto.PageResponse> commentLoads = new SingleFlight<>("comments", new SimpleMeterRegistry());
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     private static final String EMAIL = "test@example.com";
 
-    private void authenticate(String email) {
+    private void authenticate(Member member) {
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(), member.getUsername(),
+                member.getRole(), member.getAuthVersion(), null, null);
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        GrantedAuthority authority = () -> "ROLE_USER";
-        context.setAuthentication(new UsernamePasswordAuthenticationToken(email, "password", List.of(authority)));
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
         SecurityContextHolder.setContext(context);
     }
 
@@ -69,6 +104,7 @@ public class CommentServiceTest {
                 .username("tester")
                 .role(Role.USER)
                 .build();
+        author.setId(5L);
 
         Comment savedComment = Comment.builder()
                 .content("new comment")
@@ -78,52 +114,242 @@ public class CommentServiceTest {
         savedComment.setId(2L);
 
         // Mock 객체의 행동 정의 (Stubbing)
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(postRepository.incrementCommentCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(memberRepository.getReferenceById(5L)).thenReturn(author);
         when(commentRepository.save(any(Comment.class))).thenReturn(savedComment);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
             Long savedCommentId = commentService.addComment(postId, request);
 
             // then
             assertThat(savedCommentId).isEqualTo(savedComment.getId());
-            verify(postRepository, times(1)).findById(postId);
-            verify(memberRepository, times(1)).findByEmail(EMAIL);
+            verify(postRepository, times(1)).incrementCommentCount(postId);
+            verify(postRepository, never()).findById(postId);
+            verify(memberRepository, times(1)).getReferenceById(5L);
+            verify(memberRepository, never()).findByEmail(any());
             verify(commentRepository, times(1)).save(any(Comment.class));
         } finally {
             clearAuthentication();
         }
     }
 
+    private CommentRow row(Long postId, Long commentId, String content) {
+        return row(postId, commentId, null, 0, content);
+    }
+
+    private CommentRow row(Long postId, Long commentId, Long parentId, int depth, String content) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("postId", postId);
+        values.put("id", commentId);
+        values.put("parentId", parentId);
+        values.put("content", content);
+        if (commentId != null) {
+            values.put("authorName", "tester");
+            values.put("depth", depth);
+            values.put("replyCount", 0);
+        }
+        return projectionFactory.createProjection(CommentRow.class, values);
+    }
+
+    private CommentTarget target(String path, Long parentId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("path", path);
+        values.put("parentId", parentId);
+        return projectionFactory.createProjection(CommentTarget.class, values);
+    }
+
     @Test
-    @DisplayName("특정 게시글의 댓글 목록 조회 성공")
-    void getComments_Success() {
+    @DisplayName("답글은 부모 경로 아래에 저장되고 부모의 답글 수를 증가시킨다")
+    void createReply_Success() {
         // given
         Long postId = 1L;
         Post post = Post.builder().title("title").content("content").build();
-        Comment comment1 = Comment.builder().content("content1").build();
-        Comment comment2 = Comment.builder().content("content2").build();
-        List<Comment> comments = List.of(comment1, comment2);
+        post.setId(postId);
+        Member author = Member.builder()
+                .email(EMAIL)
+                .password("encoded")
+                .username("tester")
+                .role(Role.USER)
+                .build();
+        author.setId(5L);
+
+        Comment parent = Comment.builder().content("parent").post(post).author(author).build();
+        parent.setId(10L);
+        parent.setPath(Comment.pathSegment(10L));
+
+        when(memberRepository.getReferenceById(5L)).thenReturn(author);
+        when(commentRepository.findById(10L)).thenReturn(Optional.of(parent));
+        when(postRepository.incrementCommentCount(postId)).thenReturn(1);
+        when(postRepository.getReferenceById(postId)).thenReturn(post);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            comment.setId(11L);
+            return comment;
+        });
+
+        authenticate(author);
+        try {
+            // when
+            commentService.addComment(postId, new CommentDto.addRequest("reply", 10L));
+
+            // then
+            ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+            verify(commentRepository).save(captor.capture());
+            Comment reply = captor.getValue();
+            assertThat(reply.getParentId()).isEqualTo(10L);
+            assertThat(reply.getDepth()).isEqualTo(1);
+            assertThat(reply.getPath()).isEqualTo(Comment.pathSegment(10L));
+            verify(commentRepository, times(1)).incrementReplyCount(10L);
+        } finally {
+            clearAuthentication();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 댓글에는 답글을 달 수 없다")
+    void createReply_ParentOfOtherPost() {
+        // given
+        Post other = Post.builder().title("title").content("content").build();
+        other.setId(2L);
+        Member author = Member.builder()
+                .email(EMAIL)
+                .password("encoded")
+                .username("tester")
+                .role(Role.USER)
+                .build();
+        author.setId(5L);
+        Comment parent = Comment.builder().content("parent").post(other).author(author).build();
+        parent.setId(10L);
+
+        when(memberRepository.getReferenceById(5L)).thenReturn(author);
+        when(commentRepository.findById(10L)).thenReturn(Optional.of(parent));
+
+        authenticate(author);
+        try {
+            // when & then
+            assertThatThrownBy(() -> commentService.addComment(1L, new CommentDto.addRequest("reply", 10L)))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(postRepository, never()).incrementCommentCount(1L);
+            verify(commentRepository, never()).incrementReplyCount(10L);
+        } finally {
+            clearAuthentication();
+        }
+    }
+
+    @Test
+    @DisplayName("path 순서로 조회한 하위 트리를 한 번의 순회로 트리로 조립한다")
+    void getThread_AssemblesTree() {
+        // given - 10 -> (11 -> 13), 12
+        Long postId = 1L;
+        List<CommentRow> rows = List.of(
+                row(postId, 10L, null, 0, "root"),
+                row(postId, 11L, 10L, 1, "reply1"),
+                row(postId, 13L, 11L, 2, "reply1-1"),
+                row(postId, 12L, 10L, 1, "reply2"));
+        when(commentRepository.findSubtree(postId, 10L, PageRequest.of(0, 1001))).thenReturn(rows);
+
+        // when
+        CommentDto.ThreadPage page = commentService.getThread(postId, 10L);
+
+        // then
+        CommentDto.ThreadResponse thread = page.root();
+        assertThat(page.truncated()).isFalse();
+        assertThat(thread.id()).isEqualTo(10L);
+        assertThat(thread.replies()).extracting(CommentDto.ThreadResponse::id).containsExactly(11L, 12L);
+        assertThat(thread.replies().get(0).replies()).extracting(CommentDto.ThreadResponse::id).containsExactly(13L);
+        assertThat(thread.replies().get(1).replies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 트리가 크기 제한을 넘으면 제한까지만 조립하고 truncated로 알린다")
+    void getThread_Truncated() {
+        // given - 루트 아래 답글 1000개 (제한 1000 + 확인용 1건)
+        Long postId = 1L;
+        List<CommentRow> rows = new ArrayList<>();
+        rows.add(row(postId, 10L, null, 0, "root"));
+        for (long id = 11L; id <= 1010L; id++) {
+            rows.add(row(postId, id, 10L, 1, "reply" + id));
+        }
+        when(commentRepository.findSubtree(postId, 10L, PageRequest.of(0, 1001))).thenReturn(rows);
+
+        // when
+        CommentDto.ThreadPage page = commentService.getThread(postId, 10L);
+
+        // then
+        assertThat(page.truncated()).isTrue();
+        assertThat(page.root().replies()).hasSize(999);
+        assertThat(page.root().replies().get(998).id()).isEqualTo(1009L);
+    }
+
+    @Test
+    @DisplayName("없는 댓글의 스레드 조회 시 예외 발생")
+    void getThread_NotFound() {
+        when(commentRepository.findSubtree(1L, 10L, PageRequest.of(0, 1001))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> commentService.getThread(1L, 10L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
 
-        // Mock 객체의 행동 정의
-        when(postRepository.existsById(postId)).thenReturn(true);
-        when(commentRepository.findByPostId(postId)).thenReturn(comments);
+    @Test
+    @DisplayName("특정 게시글의 댓글 목록을 size + 1건 조회해 다음 페이지 커서를 만든다")
+    void getComments_Success() {
+        // given
+        Long postId = 1L;
+        List<CommentRow> rows = List.of(
+                row(postId, 11L, "content1"),
+                row(postId, 12L, "content2"),
+                row(postId, 13L, "content3"));
+
+        // Mock 객체의 행동 정의 - 게시글 존재 확인과 첫 페이지를 한 번에 조회
+        when(commentRepository.findPage(postId, 0L, PageRequest.of(0, 3))).thenReturn(rows);
 
         // when
-        List<CommentDto.Response> commentList = commentService.getComments(postId);
+        CommentDto.PageResponse page = commentService.getComments(postId, null, 2);
 
         // then
-        assertThat(commentList).hasSize(2);
-        verify(postRepository, times(1)).existsById(postId);
-        verify(commentRepository, times(1)).findByPostId(postId);
+        assertThat(page.comments()).extracting(CommentDto.Response::id).containsExactly(11L, 12L);
+        assertThat(page.comments()).extracting(CommentDto.Response::author).containsOnly("tester");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CommentDto.Cursor.decode(page.nextCursor()).id()).isEqualTo(12L);
+        verify(postRepository, never()).existsById(postId);
     }
 
     @Test
-    @DisplayName("댓글 수정 성공")
+    @DisplayName("커서 이후의 댓글을 조회하고, 댓글이 없는 게시글은 빈 페이지를 반환한다")
+    void getComments_afterCursor() {
+        // given
+        Long postId = 1L;
+        String cursor = new CommentDto.Cursor(12L).encode();
+        when(commentRepository.findPage(postId, 12L, PageRequest.of(0, 21))).thenReturn(List.of(row(postId, null, null)));
+
+        // when
+        CommentDto.PageResponse page = commentService.getComments(postId, cursor, 20);
+
+        // then
+        assertThat(page.comments()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 댓글 목록 조회 시 예외 발생")
+    void getComments_PostNotFound() {
+        // given
+        when(commentRepository.findPage(1L, 0L, PageRequest.of(0, 21))).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getComments(1L, null, 20))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("댓글 수정 성공 - 댓글을 읽지 않고 작성자 조건을 건 UPDATE 한 번으로 수정")
     void updateComment_Success() {
         // given
+        Long postId = 7L;
         Long commentId = 1L;
         Member author = Member.builder()
                 .email(EMAIL)
@@ -132,26 +358,21 @@ public class CommentServiceTest {
                 .role(Role.USER)
                 .build();
         author.setId(99L);
-
-        Comment comment = Comment.builder()
-                .content("original content")
-                .author(author)
-                .build();
         CommentDto.editRequest request = new CommentDto.editRequest("updated content");
 
-        // Mock 객체의 행동 정의
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(commentRepository.updateContentByIdAndAuthorId(eq(postId), eq(commentId), eq(99L), eq("updated content"), any()))
+                .thenReturn(1);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
-            commentService.editComment(commentId, request);
+            commentService.editComment(postId, commentId, request);
 
             // then
-            assertThat(comment.getContent()).isEqualTo("updated content");
-            verify(commentRepository, times(1)).findById(commentId);
-            verify(memberRepository, times(1)).findByEmail(EMAIL);
+            verify(commentRepository, never()).findById(any());
+            verify(commentRepository, never()).existsByIdAndPostId(any(), any());
+            verify(eventPublisher, times(1)).publishEvent(new CommentUpdatedEvent(postId, commentId, "updated content"));
+            verifyNoInteractions(memberRepository);
         } finally {
             clearAuthentication();
         }
@@ -161,14 +382,6 @@ public class CommentServiceTest {
     @DisplayName("작성자와 다른 사용자가 댓글 수정 시 예외 발생")
     void updateComment_Unauthorized() {
         Long commentId = 1L;
-        Member author = Member.builder()
-                .email("owner@example.com")
-                .password("encoded")
-                .username("owner")
-                .role(Role.USER)
-                .build();
-        author.setId(1L);
-
         Member other = Member.builder()
                 .email(EMAIL)
                 .password("encoded")
@@ -177,18 +390,39 @@ public class CommentServiceTest {
                 .build();
         other.setId(2L);
 
-        Comment comment = Comment.builder()
-                .content("original")
-                .author(author)
+        when(commentRepository.updateContentByIdAndAuthorId(eq(7L), eq(commentId), eq(2L), eq("edit"), any()))
+                .thenReturn(0);
+        when(commentRepository.existsByIdAndPostId(commentId, 7L)).thenReturn(true);
+
+        authenticate(other);
+        try {
+            assertThatThrownBy(() -> commentService.editComment(7L, commentId, new CommentDto.editRequest("edit")))
+                    .isInstanceOf(UnauthorizedOperationException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        } finally {
+            clearAuthentication();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 댓글이거나 없는 댓글을 수정하면 404 예외 발생")
+    void updateComment_NotFound() {
+        Member author = Member.builder()
+                .email(EMAIL)
+                .password("encoded")
+                .username("tester")
+                .role(Role.USER)
                 .build();
+        author.setId(2L);
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(other));
+        when(commentRepository.updateContentByIdAndAuthorId(eq(7L), eq(1L), eq(2L), eq("edit"), any()))
+                .thenReturn(0);
+        when(commentRepository.existsByIdAndPostId(1L, 7L)).thenReturn(false);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
-            assertThatThrownBy(() -> commentService.editComment(commentId, new CommentDto.editRequest("edit")))
-                    .isInstanceOf(UnauthorizedOperationException.class);
+            assertThatThrownBy(() -> commentService.editComment(7L, 1L, new CommentDto.editRequest("edit")))
+                    .isInstanceOf(ResourceNotFoundException.class);
         } finally {
             clearAuthentication();
         }
@@ -206,39 +440,113 @@ public class CommentServiceTest {
                 .role(Role.USER)
                 .build();
         author.setId(42L);
+        String path = Comment.pathSegment(commentId);
 
-        Comment comment = Comment.builder()
-                .content("content")
-                .author(author)
-                .build();
+        when(commentRepository.findTargetByIdAndAuthorId(7L, commentId, 42L)).thenReturn(Optional.of(target(path, null)));
+        // 댓글과 답글 2개가 함께 삭제됨
+        when(commentRepository.deleteSubtree(7L, path)).thenReturn(3);
 
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
-
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
-            commentService.deleteComment(commentId);
+            commentService.deleteComment(7L, commentId);
 
             // then
-            verify(commentRepository, times(1)).delete(comment);
+            verify(commentRepository, never()).findById(any());
+            verify(commentRepository, times(1)).deleteSubtree(7L, path);
+            verify(commentRepository, never()).decrementReplyCount(any());
+            verify(postRepository, times(1)).decreaseCommentCount(7L, 3);
+            verify(eventPublisher, times(1)).publishEvent(new CommentDeletedEvent(7L, commentId));
+            verify(postCache, times(1)).invalidate(7L);
         } finally {
             clearAuthentication();
         }
     }
 
     @Test
-    @DisplayName("인증 정보가 없으면 예외 발생")
-    void operationWithoutAuthentication_Fails() {
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
+    @DisplayName("작성자와 다른 사용자가 댓글 삭제 시 아무것도 지우지 않고 예외 발생")
+    void deleteComment_Unauthorized() {
+        Member other = Member.builder()
+                .email(EMAIL)
+                .password("encoded")
+                .username("other")
+                .role(Role.USER)
                 .build();
+        other.setId(2L);
+
+        when(commentRepository.findTargetByIdAndAuthorId(7L, 1L, 2L)).thenReturn(Optional.empty());
+        when(commentRepository.existsByIdAndPostId(1L, 7L)).thenReturn(true);
+
+        authenticate(other);
+        try {
+            assertThatThrownBy(() -> commentService.deleteComment(7L, 1L))
+                    .isInstanceOf(UnauthorizedOperationException.class);
+            verify(commentRepository, never()).deleteSubtree(any(), any());
+            verify(postRepository, never()).decreaseCommentCount(any(), anyInt());
+        } finally {
+            clearAuthentication();
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 목록 ETag는 조회한 페이지만으로 계산되고, 보이는 값이 바뀌면 달라진다")
+    void commentsVersion_fromPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        CommentDto.PageResponse page = new CommentDto.PageResponse(
+                List.of(new CommentDto.Response(1L, "comment", "tester", 0, createdAt, createdAt)), null, false);
+        CommentDto.PageResponse same = new CommentDto.PageResponse(
+                List.of(new CommentDto.Response(1L, "comment", "tester", 0, createdAt, createdAt)), null, false);
+        CommentDto.PageResponse replied = new CommentDto.PageResponse(
+                List.of(new CommentDto.Response(1L, "comment", "tester", 1, createdAt, createdAt)), null, false);
+
+        // when & then
+        assertThat(commentService.getCommentsVersion(page).eTag())
+                .isEqualTo(commentService.getCommentsVersion(same).eTag())
+                .isNotEqualTo(commentService.getCommentsVersion(replied).eTag());
+        verifyNoInteractions(commentRepository, postRepository);
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 댓글 스트림을 구독할 수 없다")
+    void subscribe_PostNotFound() {
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> commentService.subscribe(1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(commentStreamHub, never()).subscribe(any());
+    }
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        lenient().when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+    @Test
+    @DisplayName("인증 정보가 없으면 예외 발생")
+    void operationWithoutAuthentication_Fails() {
         clearAuthentication();
         assertThatThrownBy(() -> commentService.addComment(1L, new CommentDto.addRequest("content")))
                 .isInstanceOf(InvalidCredentialsException.class);
+        verify(postRepository, never()).incrementCommentCount(1L);
+    }
+
+    @Test
+    @DisplayName("없는 게시글에 댓글 작성 시 댓글을 저장하지 않고 예외 발생")
+    void createComment_PostNotFound() {
+        Member author = Member.builder()
+                .email(EMAIL)
+                .password("encoded")
+                .username("tester")
+                .role(Role.USER)
+                .build();
+        author.setId(5L);
+
+        when(memberRepository.getReferenceById(5L)).thenReturn(author);
+        when(postRepository.incrementCommentCount(1L)).thenReturn(0);
+
+        authenticate(author);
+        try {
+            assertThatThrownBy(() -> commentService.addComment(1L, new CommentDto.addRequest("content")))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(commentRepository, never()).save(any(Comment.class));
+        } finally {
+            clearAuthentication();
+        }
     }
 }
@@ -0,0 +1,92 @@
+package jsh.board.comment;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+import jsh.board.domain.Role;
+import jsh.board.repository.MemberRepository;
+import jsh.board.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class CommentStreamConnectionTest {
+
+    private static final int POOL_SIZE = 2;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void configurationProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.datasource.driver-class-name", mysql::getDriverClassName);
+        // 구독이 커넥션을 붙잡으면 풀이 바로 바닥나도록 작게 잡고, 대기도 짧게 끊습니다.
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        registry.add("spring.datasource.hikari.connection-timeout", () -> 1000);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private Long createPost() {
+        Member author = memberRepository.save(Member.builder()
+                .email("streamer@example.com")
+                .password("encoded")
+                .username("streamer")
+                .role(Role.USER)
+                .build());
+
+        return postRepository.save(Post.builder()
+                .title("title")
+                .content("content")
+                .author(author)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("열려 있는 SSE 구독은 DB 커넥션을 잡지 않아, 풀 크기보다 많이 열어도 다른 요청이 처리된다")
+    void openStreamsDoNotHoldConnections() throws Exception {
+        // given
+        Long postId = createPost();
+
+        // when - 풀 크기보다 많은 구독을 열어 둡니다.
+        for (int i = 0; i < POOL_SIZE * 3; i++) {
+            mockMvc.perform(get("/api/posts/{id}/comments/stream", postId).accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+        }
+
+        // then
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isZero();
+        mockMvc.perform(get("/api/posts/{id}/comments", postId))
+                .andExpect(status().isOk());
+    }
+}
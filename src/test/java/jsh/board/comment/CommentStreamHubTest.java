@@ -0,0 +1,224 @@
+package jsh.board.comment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.stream.CommentStreamHub;
+import jsh.board.stream.CommentStreamProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommentStreamHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 구독 순서대로 주어진 emitter를 돌려주는 hub
+    private CommentStreamHub hub(int bufferSize, RecordingEmitter... emitters) {
+        Iterator<RecordingEmitter> next = List.of(emitters).iterator();
+        return new CommentStreamHub(new CommentStreamProperties(bufferSize, Duration.ofMinutes(1)),
+                new ObjectMapper(), meterRegistry) {
+            @Override
+            protected SseEmitter createEmitter() {
+                return next.next();
+            }
+        };
+    }
+
+    private double dropped() {
+        return meterRegistry.get("board.comment_stream.dropped").counter().count();
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("board.comment_stream.subscribers").gauge().value();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 구독자는 연결을 닫고 dropped를 센다")
+    void fullQueue_closesSubscriber() throws Exception {
+        // given - 첫 이벤트(connected)를 보내다 막힌 구독자, 버퍼 2칸
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = RecordingEmitter.blocked(release);
+        CommentStreamHub hub = hub(2, slow);
+        hub.subscribe(1L);
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 2칸을 채우고 한 건을 더 넣습니다.
+        for (int i = 0; i < 3; i++) {
+            hub.publish(1L, "comment-added", Map.of("id", i));
+        }
+
+        // then - 연결 종료는 막힌 쓰기가 끝난 뒤 다른 스레드에서 마무리됩니다.
+        assertThat(dropped()).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(subscribers()).isZero();
+
+        release.countDown();
+        awaitUntil(() -> slow.completed);
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자를 닫을 때 발행 스레드는 막힌 쓰기(emitter lock)를 기다리지 않는다")
+    void fullQueue_doesNotBlockPublisher() throws Exception {
+        // given - drain 스레드가 쓰기 lock을 잡은 채 막혀 있는 구독자, 버퍼 1칸
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = RecordingEmitter.blocked(release);
+        CommentStreamHub hub = hub(1, slow);
+        hub.subscribe(1L);
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 버퍼를 넘치게 하는 발행
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> {
+            hub.publish(1L, "comment-added", Map.of("id", 1));
+            hub.publish(1L, "comment-added", Map.of("id", 2));
+        });
+
+        // then - 쓰기가 풀리기 전에 발행이 끝납니다.
+        publishing.get(1, TimeUnit.SECONDS);
+        assertThat(dropped()).isEqualTo(1);
+        assertThat(slow.completed).isFalse();
+
+        release.countDown();
+        awaitUntil(() -> slow.completed);
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("drain 스레드가 플래그를 내리는 순간 들어온 이벤트도 빠짐없이 보낸다")
+    void drainHandoff_losesNoEvent() throws Exception {
+        // given
+        RecordingEmitter emitter = RecordingEmitter.open();
+        CommentStreamHub hub = hub(16, emitter);
+        hub.subscribe(1L);
+        assertThat(emitter.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+
+        // when & then - 직전 이벤트를 보낸 drain 스레드가 큐를 비우고 멈추는 시점마다 다음 이벤트를 넣습니다.
+        for (int round = 0; round < 5000; round++) {
+            hub.publish(1L, "comment-added", Map.of("id", round));
+            assertThat(emitter.sent.poll(5, TimeUnit.SECONDS)).as("round %d", round).isNotNull();
+        }
+        assertThat(dropped()).isZero();
+
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 제거되고 구독자 수 gauge가 줄어든다")
+    void sendFailure_removesSubscriber() throws Exception {
+        // given
+        RecordingEmitter healthy = RecordingEmitter.open();
+        RecordingEmitter broken = RecordingEmitter.failing();
+        CommentStreamHub hub = hub(4, healthy, broken);
+
+        // when - 끊긴 구독자는 connected 전송에서 실패합니다.
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        awaitUntil(() -> hub.subscriberCount() == 1);
+
+        // then
+        assertThat(subscribers()).isEqualTo(1);
+        hub.publish(1L, "comment-added", Map.of("id", 1));
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(broken.attempts.get()).isEqualTo(1);
+        assertThat(dropped()).isZero();
+
+        hub.shutdown();
+    }
+
+    // 소켓 대신 보낸 이벤트를 모아 두고, 필요하면 전송을 막거나 실패시키는 emitter
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Set<DataWithMediaType>> sent = new LinkedBlockingQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final IOException failure;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release, IOException failure) {
+            this.release = release;
+            this.failure = failure;
+        }
+
+        static RecordingEmitter open() {
+            return new RecordingEmitter(new CountDownLatch(0), null);
+        }
+
+        static RecordingEmitter blocked(CountDownLatch release) {
+            return new RecordingEmitter(release, null);
+        }
+
+        static RecordingEmitter failing() {
+            return new RecordingEmitter(new CountDownLatch(0), new IOException("Broken pipe"));
+        }
+
+        /*
+        * 실제 emitter의 send()에 위임하되, 쓰기 lock을 잡은 상태에서 이벤트를 꺼내는 동안 막힙니다.
+        * (소켓 쓰기가 멈춘 상황과 같아, 같은 lock을 쓰는 complete()도 그동안 기다립니다.)
+        */
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            attempts.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            super.send(new GatedSet(items));
+            sent.add(items);
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            completed = true;
+        }
+
+        private final class GatedSet extends AbstractSet<DataWithMediaType> {
+            private final Set<DataWithMediaType> items;
+
+            private GatedSet(Set<DataWithMediaType> items) {
+                this.items = items;
+            }
+
+            @Override
+            public Iterator<DataWithMediaType> iterator() {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return items.iterator();
+            }
+
+            @Override
+            public int size() {
+                return items.size();
+            }
+        }
+    }
+}
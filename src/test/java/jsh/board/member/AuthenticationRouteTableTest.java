@@ -0,0 +1,45 @@
+package jsh.board.member;
+
+import jsh.board.jwt.AuthenticationRouteTable;
+import jsh.board.jwt.AuthenticationRouteTable.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationRouteTableTest {
+
+    private final AuthenticationRouteTable routeTable = new AuthenticationRouteTable();
+
+    private Mode resolve(String method, String path) {
+        return routeTable.resolve(new MockHttpServletRequest(method, path));
+    }
+
+    @Test
+    @DisplayName("공개 조회 경로는 토큰을 처리하지 않는다")
+    void publicReads() {
+        assertThat(resolve("GET", "/api/posts")).isEqualTo(Mode.NONE);
+        assertThat(resolve("GET", "/api/posts/search")).isEqualTo(Mode.NONE);
+        assertThat(resolve("GET", "/api/posts/1/comments")).isEqualTo(Mode.NONE);
+        assertThat(resolve("GET", "/api/posts/1/comments/stream")).isEqualTo(Mode.NONE);
+        assertThat(resolve("POST", "/api/auth/login")).isEqualTo(Mode.NONE);
+        assertThat(resolve("GET", "/v3/api-docs")).isEqualTo(Mode.NONE);
+    }
+
+    @Test
+    @DisplayName("게시글 상세는 신원이 필요할 때만 토큰을 검증한다")
+    void optionalIdentity() {
+        assertThat(resolve("GET", "/api/posts/1")).isEqualTo(Mode.LAZY);
+    }
+
+    @Test
+    @DisplayName("쓰기, 관리자 경로, 로그아웃은 필터에서 바로 검증한다")
+    void requiredIdentity() {
+        assertThat(resolve("POST", "/api/posts")).isEqualTo(Mode.EAGER);
+        assertThat(resolve("DELETE", "/api/posts/1")).isEqualTo(Mode.EAGER);
+        assertThat(resolve("GET", "/api/posts/export")).isEqualTo(Mode.EAGER);
+        assertThat(resolve("POST", "/api/auth/logout")).isEqualTo(Mode.EAGER);
+        assertThat(resolve("PUT", "/api/members/me/password")).isEqualTo(Mode.EAGER);
+    }
+}
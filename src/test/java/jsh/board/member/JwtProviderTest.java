@@ -0,0 +1,98 @@
+package jsh.board.member;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.MemberSnapshot;
+import jsh.board.cache.MemberSnapshotCache;
+import jsh.board.domain.Member;
+import jsh.board.domain.Role;
+import jsh.board.jwt.JwtProperties;
+import jsh.board.jwt.JwtProvider;
+import jsh.board.jwt.JwtVerifier;
+import jsh.board.jwt.MemberPrincipal;
+import jsh.board.repository.MemberAuthChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class JwtProviderTest {
+
+    private final JwtProperties properties = new JwtProperties(
+            "test-secret-key-for-jwt-provider-test-0123456789", Duration.ofMinutes(15), Duration.ofDays(7), 100);
+    private final MemberSnapshotCache memberSnapshotCache = new MemberSnapshotCache(
+            mock(MemberAuthChangeRepository.class), Clock.systemUTC(), properties, new SimpleMeterRegistry());
+    private final JwtProvider jwtProvider = new JwtProvider(properties, Clock.systemUTC(), memberSnapshotCache,
+            new JwtVerifier(properties, Clock.systemUTC(), new SimpleMeterRegistry()));
+
+    private Member member(Role role) {
+        Member member = Member.builder()
+                .email("test@example.com")
+                .password("encoded")
+                .username("tester")
+                .role(role)
+                .build();
+        member.setId(1L);
+        return member;
+    }
+
+    @Test
+    @DisplayName("토큰 claim만으로 회원 ID, 이메일, 닉네임, 권한을 가진 인증 정보를 만든다")
+    void toAuthentication_fromClaims() {
+        // given
+        Claims claims = jwtProvider.parseClaims(jwtProvider.createAccessToken(member(Role.USER)));
+
+        // when
+        Authentication authentication = jwtProvider.toAuthentication(claims);
+
+        // then
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        assertThat(principal.id()).isEqualTo(1L);
+        assertThat(principal.email()).isEqualTo("test@example.com");
+        assertThat(principal.username()).isEqualTo("tester");
+        assertThat(principal.role()).isEqualTo(Role.USER);
+        assertThat(principal.tokenId()).isEqualTo(claims.getId());
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("토큰 발급 뒤 권한이 바뀌면 더 새로운 스냅샷의 권한을 사용한다")
+    void toAuthentication_newerSnapshotWins() {
+        // given
+        Member member = member(Role.ADMIN);
+        Claims claims = jwtProvider.parseClaims(jwtProvider.createAccessToken(member));
+
+        member.updateRole(Role.USER);
+        memberSnapshotCache.update(MemberSnapshot.from(member));
+
+        // when
+        Authentication authentication = jwtProvider.toAuthentication(claims);
+
+        // then
+        assertThat(((MemberPrincipal) authentication.getPrincipal()).authVersion()).isEqualTo(1);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("이전 버전의 스냅샷은 새 토큰의 권한을 덮어쓰지 않는다")
+    void toAuthentication_olderSnapshotIgnored() {
+        // given
+        Member member = member(Role.USER);
+        memberSnapshotCache.update(MemberSnapshot.from(member));
+        member.updateRole(Role.ADMIN);
+        Claims claims = jwtProvider.parseClaims(jwtProvider.createAccessToken(member));
+
+        // when
+        Authentication authentication = jwtProvider.toAuthentication(claims);
+
+        // then
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+}
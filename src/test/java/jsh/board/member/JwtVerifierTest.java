@@ -0,0 +1,103 @@
+package jsh.board.member;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.jwt.JwtProperties;
+import jsh.board.jwt.JwtVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtVerifierTest {
+
+    private final JwtProperties properties = new JwtProperties(
+            "test-secret-key-for-jwt-verifier-test-0123456789", Duration.ofMinutes(15), Duration.ofDays(7), 100);
+    private final MutableClock clock = new MutableClock();
+    private final JwtVerifier jwtVerifier = new JwtVerifier(properties, clock, new SimpleMeterRegistry());
+
+    private String token(Duration validity) {
+        return Jwts.builder()
+                .subject("1")
+                .issuedAt(Date.from(clock.instant()))
+                .expiration(Date.from(clock.instant().plus(validity)))
+                .signWith(properties.secretKey())
+                .compact();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 claim을 반환한다")
+    void verify_cachesVerifiedClaims() {
+        // given
+        String token = token(Duration.ofMinutes(15));
+
+        // when
+        Claims first = jwtVerifier.verify(token);
+        Claims second = jwtVerifier.verify(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 거부한다")
+    void verify_rejectsTamperedToken() {
+        String token = token(Duration.ofMinutes(15));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtVerifier.verify(tampered))
+                .isInstanceOf(JwtException.class)
+                .hasMessage("Invalid JWT Token");
+    }
+
+    @Test
+    @DisplayName("캐시에 있어도 만료 시각이 지난 토큰은 거부한다")
+    void verify_rejectsExpiredCachedToken() {
+        // given
+        String token = token(Duration.ofMinutes(15));
+        jwtVerifier.verify(token);
+
+        // when
+        clock.advance(Duration.ofMinutes(16));
+
+        // then
+        assertThatThrownBy(() -> jwtVerifier.verify(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessage("Expired JWT Token");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
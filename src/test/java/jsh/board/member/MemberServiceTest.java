@@ -0,0 +1,233 @@
+package jsh.board.member;
+
+import io.jsonwebtoken.Jwts;
+import jsh.board.cache.MemberSnapshotCache;
+import jsh.board.domain.Member;
+import jsh.board.domain.RefreshToken;
+import jsh.board.domain.Role;
+import jsh.board.dto.MemberDto;
+import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.jwt.JwtProvider;
+import jsh.board.jwt.TokenDenyList;
+import jsh.board.password.PasswordHasher;
+import jsh.board.repository.MemberRepository;
+import jsh.board.repository.RefreshTokenRepository;
+import jsh.board.service.MemberService;
+import jsh.board.support.Hashing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberServiceTest {
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private JwtProvider jwtProvider;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private MemberSnapshotCache memberSnapshotCache;
+    @Mock
+    private TokenDenyList tokenDenyList;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    private final Instant expiry = Instant.parse("2025-01-08T00:00:00Z");
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .email("test@example.com")
+                .password("encoded")
+                .username("tester")
+                .role(Role.USER)
+                .build();
+        member.setId(1L);
+    }
+
+    private void givenRefreshToken() {
+        when(jwtProvider.parseRefreshToken("old")).thenReturn(Jwts.claims().subject("1").build());
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+    }
+
+    private void givenNewRefreshToken() {
+        when(jwtProvider.createRefreshToken(member)).thenReturn("new");
+        when(jwtProvider.parseClaims("new")).thenReturn(Jwts.claims().expiration(Date.from(expiry)).build());
+    }
+
+    private RefreshToken storedToken(String value, String familyId) {
+        return RefreshToken.builder()
+                .member(member)
+                .familyId(familyId)
+                .tokenHash(Hashing.sha256Hex(value))
+                .expiryDate(expiry)
+                .build();
+    }
+
+    @Test
+    @DisplayName("현재 리프레시 토큰이면 digest로 찾아 같은 family의 새 토큰으로 교체하고 access token을 재발급한다")
+    void refresh_rotatesToken() {
+        // given
+        givenRefreshToken();
+        givenNewRefreshToken();
+        when(refreshTokenRepository.findByTokenHash(Hashing.sha256Hex("old"))).thenReturn(Optional.of(storedToken("old", "family-1")));
+        when(refreshTokenRepository.markRotated(Hashing.sha256Hex("old"))).thenReturn(1);
+        when(jwtProvider.createAccessToken(member)).thenReturn("access");
+
+        // when
+        Map<String, String> tokens = memberService.refresh(new MemberDto.RefreshRequest("old"));
+
+        // then
+        assertThat(tokens).containsEntry("accessToken", "access").containsEntry("refreshToken", "new");
+        verify(refreshTokenRepository, times(1)).save(argThat(token ->
+                token.getFamilyId().equals("family-1") && token.getTokenHash().equals(Hashing.sha256Hex("new"))));
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+    }
+
+    @Test
+    @DisplayName("같은 family에서 이미 교체된 리프레시 토큰이 다시 쓰이면 그 family만 폐기하고 거부한다")
+    void refresh_reuseRevokesFamily() {
+        // given
+        givenRefreshToken();
+        when(refreshTokenRepository.findByTokenHash(Hashing.sha256Hex("old"))).thenReturn(Optional.of(storedToken("old", "family-1")));
+        when(refreshTokenRepository.markRotated(Hashing.sha256Hex("old"))).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> memberService.refresh(new MemberDto.RefreshRequest("old")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId("family-1");
+        verify(refreshTokenRepository, never()).deleteByMemberId(1L);
+        verify(jwtProvider, never()).createAccessToken(member);
+    }
+
+    @Test
+    @DisplayName("두 기기에서 로그인한 뒤 첫 기기가 재발급해도 재사용으로 보지 않는다")
+    void refresh_afterLoginOnAnotherDevice() {
+        // given - 기기 1, 기기 2 순서로 로그인
+        when(memberRepository.findByEmail("test@example.com")).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("password", "encoded")).thenReturn(true);
+        when(jwtProvider.createAccessToken(member)).thenReturn("access");
+        when(jwtProvider.createRefreshToken(member)).thenReturn("device-1", "device-2", "device-1-next");
+        when(jwtProvider.parseClaims(anyString())).thenReturn(Jwts.claims().expiration(Date.from(expiry)).build());
+
+        MemberDto.LogInRequest logIn = new MemberDto.LogInRequest("test@example.com", "password");
+        memberService.logIn(logIn);
+        memberService.logIn(logIn);
+
+        ArgumentCaptor<RefreshToken> logins = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(logins.capture());
+        RefreshToken firstDevice = logins.getAllValues().get(0);
+        assertThat(firstDevice.getFamilyId()).isNotEqualTo(logins.getAllValues().get(1).getFamilyId());
+
+        when(jwtProvider.parseRefreshToken("device-1")).thenReturn(Jwts.claims().subject("1").build());
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(refreshTokenRepository.findByTokenHash(Hashing.sha256Hex("device-1"))).thenReturn(Optional.of(firstDevice));
+        when(refreshTokenRepository.markRotated(Hashing.sha256Hex("device-1"))).thenReturn(1);
+
+        // when - 기기 1의 정상 재발급
+        Map<String, String> tokens = memberService.refresh(new MemberDto.RefreshRequest("device-1"));
+
+        // then
+        assertThat(tokens).containsEntry("refreshToken", "device-1-next");
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+        verify(refreshTokenRepository, never()).deleteByMemberId(1L);
+        verify(refreshTokenRepository, times(1)).save(argThat(token ->
+                token.getFamilyId().equals(firstDevice.getFamilyId())
+                        && token.getTokenHash().equals(Hashing.sha256Hex("device-1-next"))));
+    }
+
+    @Test
+    @DisplayName("로그인은 조회 후 트랜잭션 밖에서 검증/재해시하고, 저장만 짧은 트랜잭션으로 처리한다")
+    void logIn_hashesOutsideTransaction() {
+        // given
+        givenNewRefreshToken();
+        when(memberRepository.findByEmail("test@example.com")).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("password", "encoded")).thenReturn(true);
+        when(passwordHasher.needsRehash("encoded")).thenReturn(true);
+        when(passwordHasher.encode("password")).thenReturn("rehashed");
+        when(jwtProvider.createAccessToken(member)).thenReturn("access");
+
+        // when
+        Map<String, String> tokens = memberService.logIn(new MemberDto.LogInRequest("test@example.com", "password"));
+
+        // then
+        assertThat(tokens).containsEntry("accessToken", "access").containsEntry("refreshToken", "new");
+        InOrder order = inOrder(memberRepository, passwordHasher, transactionManager);
+        order.verify(memberRepository).findByEmail("test@example.com");
+        order.verify(passwordHasher).matches("password", "encoded");
+        order.verify(passwordHasher).encode("password");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(memberRepository).updatePassword(1L, "encoded", "rehashed");
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경은 해시를 마친 뒤 트랜잭션을 열어 저장하고 이전 토큰을 폐기한다")
+    void changePassword_hashesOutsideTransaction() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("encoded-current", "encoded")).thenReturn(true);
+        when(passwordHasher.encode("new-password")).thenReturn("encoded-new");
+        when(memberRepository.updatePassword(1L, "encoded", "encoded-new")).thenReturn(1);
+
+        // when
+        memberService.changePassword(1L, new MemberDto.PasswordChangeRequest("encoded-current", "new-password"));
+
+        // then
+        InOrder order = inOrder(passwordHasher, transactionManager, memberRepository, tokenDenyList);
+        order.verify(passwordHasher).encode("new-password");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(memberRepository).updatePassword(1L, "encoded", "encoded-new");
+        order.verify(tokenDenyList).revokeAllTokens(1L);
+        order.verify(transactionManager).commit(any());
+        verify(refreshTokenRepository, times(1)).deleteByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("해시하는 사이 비밀번호가 바뀌었으면 덮어쓰지 않고 거부한다")
+    void changePassword_concurrentChange() {
+        // given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("encoded-current", "encoded")).thenReturn(true);
+        when(passwordHasher.encode("new-password")).thenReturn("encoded-new");
+        when(memberRepository.updatePassword(1L, "encoded", "encoded-new")).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> memberService.changePassword(1L,
+                new MemberDto.PasswordChangeRequest("encoded-current", "new-password")))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verify(tokenDenyList, never()).revokeAllTokens(1L);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+}
@@ -0,0 +1,93 @@
+package jsh.board.member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.MemberSnapshot;
+import jsh.board.cache.MemberSnapshotCache;
+import jsh.board.domain.MemberAuthChange;
+import jsh.board.domain.Role;
+import jsh.board.jwt.JwtProperties;
+import jsh.board.repository.MemberAuthChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberSnapshotCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private MemberAuthChangeRepository memberAuthChangeRepository;
+
+    private MemberSnapshotCache memberSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        memberSnapshotCache = new MemberSnapshotCache(
+                memberAuthChangeRepository,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                new JwtProperties("secret", Duration.ofMinutes(15), Duration.ofDays(7), 100),
+                new SimpleMeterRegistry());
+    }
+
+    private MemberAuthChange change(long id, Long memberId, Role role, long authVersion) {
+        MemberAuthChange change = MemberAuthChange.of(memberId, "test@example.com", role, authVersion,
+                NOW, NOW.plus(Duration.ofMinutes(15)));
+        ReflectionTestUtils.setField(change, "id", id);
+        return change;
+    }
+
+    @Test
+    @DisplayName("권한 변경은 기록으로 남기고 이 인스턴스에는 바로 반영한다")
+    void update() {
+        // when
+        memberSnapshotCache.update(new MemberSnapshot(1L, "test@example.com", Role.ADMIN, 2));
+
+        // then
+        verify(memberAuthChangeRepository, times(1)).save(any(MemberAuthChange.class));
+        assertThat(memberSnapshotCache.findNewerThan(1L, 1)).extracting(MemberSnapshot::role).isEqualTo(Role.ADMIN);
+        assertThat(memberSnapshotCache.findNewerThan(1L, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 기록한 권한 변경을 동기화로 반영한다")
+    void sync() {
+        // given
+        when(memberAuthChangeRepository.findByExpiresAtAfter(NOW))
+                .thenReturn(List.of(change(5L, 1L, Role.ADMIN, 2)));
+
+        // when
+        memberSnapshotCache.sync();
+
+        // then
+        assertThat(memberSnapshotCache.findNewerThan(1L, 1)).extracting(MemberSnapshot::role).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("겹쳐 다시 읽은 이전 버전의 변경은 더 새로운 스냅샷을 덮어쓰지 않는다")
+    void sync_keepsNewerVersion() {
+        // given
+        when(memberAuthChangeRepository.findByExpiresAtAfter(NOW))
+                .thenReturn(List.of(change(6L, 1L, Role.USER, 3), change(5L, 1L, Role.ADMIN, 2)));
+
+        // when
+        memberSnapshotCache.sync();
+
+        // then
+        assertThat(memberSnapshotCache.findNewerThan(1L, 2)).extracting(MemberSnapshot::role).isEqualTo(Role.USER);
+    }
+}
@@ -0,0 +1,89 @@
+package jsh.board.member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.exception.ServiceUnavailableException;
+import jsh.board.exception.TooManyRequestsException;
+import jsh.board.password.PasswordHasher;
+import jsh.board.password.PasswordHashingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHasherTest {
+
+    private PasswordHasher hasher(PasswordEncoder encoder, int strength, Duration timeout) {
+        return new PasswordHasher(encoder, new PasswordHashingProperties(1, 1, timeout, strength), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("전용 실행기에서 해시하고 검증한다")
+    void encodeAndMatch() {
+        PasswordHasher hasher = hasher(new BCryptPasswordEncoder(4), 4, Duration.ofSeconds(5));
+
+        String encoded = hasher.encode("password");
+
+        assertThat(hasher.matches("password", encoded)).isTrue();
+        assertThat(hasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 cost가 설정과 다르면 다시 해시가 필요하다")
+    void needsRehash_whenCostChanges() {
+        String encoded = new BCryptPasswordEncoder(4).encode("password");
+
+        assertThat(hasher(new BCryptPasswordEncoder(4), 4, Duration.ofSeconds(5)).needsRehash(encoded)).isFalse();
+        assertThat(hasher(new BCryptPasswordEncoder(5), 5, Duration.ofSeconds(5)).needsRehash(encoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차 있으면 429, 제한 시간을 넘기면 503")
+    void backpressure() throws Exception {
+        // given - 스레드 1개, 대기열 1칸
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordHasher hasher = hasher(new BlockingEncoder(started, release), 4, Duration.ofMillis(500));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then - 대기열에 들어간 요청은 제한 시간 초과로 503
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+        Thread.sleep(50);
+        assertThatThrownBy(() -> hasher.encode("third"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(queued::join)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        running.handle((value, error) -> value).join();
+        hasher.shutdown();
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package jsh.board.member;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jsh.board.domain.TokenRevocation;
+import jsh.board.jwt.JwtProperties;
+import jsh.board.jwt.TokenDenyList;
+import jsh.board.jwt.TokenRevocationProperties;
+import jsh.board.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenDenyListTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        tokenDenyList = new TokenDenyList(
+                tokenRevocationRepository,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                new JwtProperties("secret", Duration.ofMinutes(15), Duration.ofDays(7), 100),
+                new TokenRevocationProperties(1000, 0.01));
+    }
+
+    private Claims claims(String jti, Instant issuedAt) {
+        return Jwts.claims().id(jti).subject("1").issuedAt(Date.from(issuedAt)).build();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰만 거부하고 같은 회원의 다른 토큰은 통과시킨다")
+    void revokeToken() {
+        // when
+        tokenDenyList.revokeToken(1L, "jti-1", NOW.plus(Duration.ofMinutes(10)));
+
+        // then
+        assertThat(tokenDenyList.isRevoked(claims("jti-1", NOW))).isTrue();
+        assertThat(tokenDenyList.isRevoked(claims("jti-2", NOW))).isFalse();
+        verify(tokenRevocationRepository, times(1)).save(any(TokenRevocation.class));
+    }
+
+    @Test
+    @DisplayName("회원 전체 폐기 이전에 발급된 토큰만 거부한다")
+    void revokeAllTokens() {
+        // when
+        tokenDenyList.revokeAllTokens(1L);
+
+        // then
+        assertThat(tokenDenyList.isRevoked(claims("jti-1", NOW.minusSeconds(60)))).isTrue();
+        assertThat(tokenDenyList.isRevoked(claims("jti-2", NOW.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기동 시 테이블의 폐기 기록으로 다시 만든다")
+    void load() {
+        // given
+        TokenRevocation revocation = TokenRevocation.token(1L, "jti-1", NOW, NOW.plus(Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(revocation, "id", 5L);
+        when(tokenRevocationRepository.findByExpiresAtAfter(NOW))
+                .thenReturn(List.of(revocation));
+
+        // when
+        tokenDenyList.load();
+
+        // then
+        assertThat(tokenDenyList.isRevoked(claims("jti-1", NOW))).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 항목은 정리 후 더 이상 확인하지 않는다")
+    void purge() {
+        // given
+        tokenDenyList.revokeToken(1L, "jti-1", NOW.minusSeconds(1));
+
+        // when
+        tokenDenyList.purge();
+
+        // then
+        assertThat(tokenDenyList.isRevoked(claims("jti-1", NOW))).isFalse();
+        verify(tokenRevocationRepository, times(1)).deleteExpired(NOW);
+    }
+}
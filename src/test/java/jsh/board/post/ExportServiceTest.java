@@ -0,0 +1,110 @@
+package jsh.board.post;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+import jsh.board.domain.Role;
+import jsh.board.repository.CommentRepository;
+import jsh.board.repository.PostRepository;
+import jsh.board.service.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Member createMember(long id) {
+        Member member = Member.builder()
+                .email("writer@example.com")
+                .password("encoded")
+                .username("writer")
+                .role(Role.USER)
+                .build();
+        member.setId(id);
+        return member;
+    }
+
+    private Post createPost(long id, Member author) {
+        Post post = Post.builder()
+                .title("title " + id)
+                .content("content " + id)
+                .author(author)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    @Test
+    @DisplayName("게시글을 모두 쓴 뒤 댓글을 한 줄에 하나씩 NDJSON으로 쓴다")
+    void exportWritesPostsThenComments() throws Exception {
+        // given
+        Member author = createMember(10L);
+        Post post = createPost(1L, author);
+        Comment comment = Comment.builder().content("comment").post(post).author(author).build();
+        ReflectionTestUtils.setField(comment, "id", 5L);
+
+        when(postRepository.streamAllForExport()).thenReturn(Stream.of(post, createPost(2L, author)));
+        when(commentRepository.streamAllForExport()).thenReturn(Stream.of(comment));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("type").asText()).isEqualTo("post");
+        assertThat(first.get("authorId").asLong()).isEqualTo(10L);
+
+        JsonNode last = objectMapper.readTree(lines[2]);
+        assertThat(last.get("type").asText()).isEqualTo("comment");
+        assertThat(last.get("postId").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("일정 건수마다 영속성 컨텍스트를 비운다")
+    void exportClearsPersistenceContextPeriodically() throws Exception {
+        // given
+        Member author = createMember(10L);
+        when(postRepository.streamAllForExport())
+                .thenReturn(LongStream.rangeClosed(1, 2_500).mapToObj(id -> createPost(id, author)));
+        when(commentRepository.streamAllForExport()).thenReturn(Stream.empty());
+
+        // when
+        exportService.export(new ByteArrayOutputStream());
+
+        // then - 1000건, 2000건, 게시글 종료, 댓글 종료
+        verify(entityManager, times(4)).clear();
+    }
+}
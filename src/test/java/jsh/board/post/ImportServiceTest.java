@@ -0,0 +1,178 @@
+package jsh.board.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jsh.board.domain.Comment;
+import jsh.board.domain.Member;
+import jsh.board.domain.Post;
+import jsh.board.domain.Role;
+import jsh.board.dto.ImportDto;
+import jsh.board.exception.InvalidRequestException;
+import jsh.board.repository.CommentRepository;
+import jsh.board.repository.MemberRepository;
+import jsh.board.repository.PostRepository;
+import jsh.board.service.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImportService importService;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(postRepository, commentRepository, memberRepository, entityManager,
+                new TransactionTemplate(transactionManager), new ObjectMapper(), validator, eventPublisher, 2);
+    }
+
+    private Member createMember(long id) {
+        Member member = Member.builder()
+                .email("writer@example.com")
+                .password("encoded")
+                .username("writer")
+                .role(Role.USER)
+                .build();
+        member.setId(id);
+        return member;
+    }
+
+    private ByteArrayInputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("JSON 배열을 chunk 단위로 나눠 저장하고, 게시글/댓글 건수를 반환한다")
+    @SuppressWarnings("unchecked")
+    void importPosts_inChunks() throws Exception {
+        // given
+        String body = """
+                [
+                  {"authorId": 1, "title": "t1", "content": "c1", "comments": [{"authorId": 1, "content": "r1"}]},
+                  {"authorId": 1, "title": "t2", "content": "c2"},
+                  {"authorId": 1, "title": "t3", "content": "c3", "comments": []}
+                ]
+                """;
+        when(memberRepository.findExistingIds(any())).thenReturn(List.of(1L));
+        when(memberRepository.getReferenceById(anyLong())).thenReturn(createMember(1L));
+
+        // when
+        ImportDto.Result result = importService.importPosts(json(body));
+
+        // then
+        assertThat(result.posts()).isEqualTo(3);
+        assertThat(result.comments()).isEqualTo(1);
+
+        ArgumentCaptor<List<Post>> posts = ArgumentCaptor.forClass(List.class);
+        verify(postRepository, times(2)).saveAll(posts.capture());
+        assertThat(posts.getAllValues()).extracting(List::size).containsExactly(2, 1);
+
+        ArgumentCaptor<List<Comment>> comments = ArgumentCaptor.forClass(List.class);
+        verify(commentRepository, times(2)).saveAll(comments.capture());
+        assertThat(comments.getAllValues().get(0).get(0).getPost().getTitle()).isEqualTo("t1");
+
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작성자가 있으면 해당 chunk를 저장하지 않고 예외 발생")
+    void importPosts_unknownAuthor() {
+        // given
+        String body = """
+                [{"authorId": 99, "title": "t1", "content": "c1"}]
+                """;
+        when(memberRepository.findExistingIds(any())).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> importService.importPosts(json(body)))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(postRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 게시글이 있으면 위치와 함께 예외 발생")
+    void importPosts_invalidPost() {
+        // given
+        String body = """
+                [{"authorId": 1, "title": "", "content": "c1"}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> importService.importPosts(json(body)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("1번째 게시글");
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 요소가 있으면 위치와 함께 예외 발생하고 뒤의 게시글은 가져오지 않는다")
+    void importPosts_nonObjectElement() {
+        // given - chunk 크기 2, 세 번째 요소가 숫자
+        String body = """
+                [
+                  {"authorId": 1, "title": "t1", "content": "c1"},
+                  {"authorId": 1, "title": "t2", "content": "c2"},
+                  1,
+                  {"authorId": 1, "title": "t4", "content": "c4"}
+                ]
+                """;
+        when(memberRepository.findExistingIds(any())).thenReturn(List.of(1L));
+        when(memberRepository.getReferenceById(anyLong())).thenReturn(createMember(1L));
+
+        // when & then
+        assertThatThrownBy(() -> importService.importPosts(json(body)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("3번째 요소")
+                .hasMessageContaining("2건은 반영");
+        verify(postRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("배열이 닫히기 전에 본문이 끝나면 성공으로 처리하지 않고 예외 발생")
+    void importPosts_truncatedBody() {
+        // given
+        String body = """
+                [{"authorId": 1, "title": "t1", "content": "c1"},
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> importService.importPosts(json(body)))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(postRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,83 @@
+package jsh.board.post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.PostCache;
+import jsh.board.cache.PostCacheProperties;
+import jsh.board.dto.PostDto;
+import jsh.board.support.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostCacheTest {
+
+    private final PostCache postCache = new PostCache(
+            new PostCacheProperties(100, Duration.ofMinutes(10)),
+            new SingleFlight<>("post", new SimpleMeterRegistry()),
+            new SimpleMeterRegistry());
+
+    private PostDto.Response response(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostDto.Response(id, "title", "content", 0, 0, 0, now, now);
+    }
+
+    @Test
+    @DisplayName("로드 중 다른 게시글이 무효화돼도 로드 결과는 캐시에 올라간다")
+    void invalidatingOtherKeyKeepsLoad() {
+        // when
+        postCache.get(1L, id -> {
+            postCache.invalidate(2L);
+            return response(id);
+        });
+
+        // then
+        assertThat(postCache.peek(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("로드 중 같은 게시글이 무효화되면 로드 결과를 캐시에 올리지 않는다")
+    void invalidatingSameKeyDropsLoad() {
+        // when
+        PostDto.Response loaded = postCache.get(1L, id -> {
+            postCache.invalidate(1L);
+            return response(id);
+        });
+
+        // then
+        assertThat(loaded).isNotNull();
+        assertThat(postCache.peek(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("DB에 반영된 조회수는 캐시 항목을 내리지 않고 응답에 더해진다")
+    void flushedViewsKeepEntry() {
+        // given
+        postCache.get(1L, this::response);
+
+        // when
+        postCache.addFlushedViews(1L, 3);
+
+        // then
+        assertThat(postCache.peek(1L).viewCount()).isEqualTo(3);
+        assertThat(postCache.get(1L, id -> {
+            throw new AssertionError("캐시에 있으므로 로드하지 않아야 합니다.");
+        }).viewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로드 중 조회수가 반영되면 로드 결과를 캐시에 올리지 않는다")
+    void flushedViewsDuringLoadDropsLoad() {
+        // when
+        postCache.get(1L, id -> {
+            postCache.addFlushedViews(1L, 3);
+            return response(id);
+        });
+
+        // then
+        assertThat(postCache.peek(1L)).isNull();
+    }
+}
@@ -3,7 +3,12 @@ package jsh.board.post;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jsh.board.controller.PostController;
 import jsh.board.dto.PostDto;
+import jsh.board.dto.ResourceVersion;
+import jsh.board.search.SearchService;
+import jsh.board.service.ExportService;
+import jsh.board.service.ImportService;
 import jsh.board.service.PostService;
+import jsh.board.trending.TrendingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -36,6 +42,14 @@ public class PostControllerTest {
 
     @Mock
     private PostService postService;
+    @Mock
+    private SearchService searchService;
+    @Mock
+    private TrendingService trendingService;
+    @Mock
+    private ExportService exportService;
+    @Mock
+    private ImportService importService;
 
     // HTTP 요청 시뮬레이터
     private MockMvc mockMvc;
@@ -71,12 +85,14 @@ public class PostControllerTest {
     void findPostById_success() throws Exception {
         // given
         Long postId = 1L;
-        PostDto.Response response = new PostDto.Response(postId, "title", "content", 0, 0, LocalDateTime.now(), null);
+        PostDto.Response response = new PostDto.Response(postId, "title", "content", 0, 0, 0, LocalDateTime.now(), null);
         given(postService.findPostById(postId)).willReturn(response);
+        given(postService.getVersion(response)).willReturn(new ResourceVersion("W/\"abc\"", -1));
 
         // when & then
         mockMvc.perform(get("/api/posts/{id}", postId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"abc\""))
                 .andExpect(jsonPath("$.id").value(postId))
                 .andExpect(jsonPath("$.title").value("title"))
                 .andExpect(jsonPath("$.content").value("content"))
@@ -86,24 +102,61 @@ public class PostControllerTest {
     }
 
     @Test
-    @DisplayName("모든 게시글 조회 API 작동")
-    void getAllPosts()  throws Exception {
+    @DisplayName("ETag가 일치하면 캐시된 응답 기준으로 본문 없이 304를 반환하고 조회수는 증가")
+    void findPostById_notModified() throws Exception {
+        // given
+        Long postId = 1L;
+        PostDto.Response response = new PostDto.Response(postId, "title", "content", 0, 0, 0, LocalDateTime.now(), null);
+        given(postService.findPostById(postId)).willReturn(response);
+        given(postService.getVersion(response)).willReturn(new ResourceVersion("W/\"abc\"", -1));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}", postId).header("If-None-Match", "W/\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        verify(postService).increaseViewCount(eq(postId), any());
+    }
+
+    @Test
+    @DisplayName("게시글 조회는 Last-Modified를 보내지 않아 If-Modified-Since만으로는 304를 받지 않는다")
+    void findPostById_ignoresIfModifiedSince() throws Exception {
+        // given - 댓글 수만 바뀌어 수정 시각은 그대로인 게시글
+        Long postId = 1L;
+        PostDto.Response response = new PostDto.Response(postId, "title", "content", 0, 0, 3, LocalDateTime.now(), null);
+        given(postService.findPostById(postId)).willReturn(response);
+        given(postService.getVersion(response)).willReturn(new ResourceVersion("W/\"abc\"", -1));
+
+        // when & then
+        mockMvc.perform(get("/api/posts/{id}", postId).header("If-Modified-Since", "Wed, 01 Jan 2099 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(jsonPath("$.commentCount").value(3))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 API 작동")
+    void getPosts()  throws Exception {
         // given
-        List<PostDto.Response> postList = List.of(
-                new PostDto.Response(1L, "title1", "content1", 0, 0, LocalDateTime.now(), null),
-                new PostDto.Response(2L, "title2", "content2", 0, 0, LocalDateTime.now(), null)
+        List<PostDto.SummaryResponse> postList = List.of(
+                new PostDto.SummaryResponse(2L, "title2", "content2", 0, 0, LocalDateTime.now()),
+                new PostDto.SummaryResponse(1L, "title1", "content1", 0, 0, LocalDateTime.now())
         );
-        given(postService.getAllPosts()).willReturn(postList);
+        given(postService.getPosts(null, 2)).willReturn(new PostDto.PageResponse(postList, "next", true));
 
         // when & then
-        mockMvc.perform(get("/api/posts"))
+        mockMvc.perform(get("/api/posts").param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].title").value("title2"))
+                .andExpect(jsonPath("$.posts", hasSize(2)))
+                .andExpect(jsonPath("$.posts[0].id").value(2))
+                .andExpect(jsonPath("$.posts[1].title").value("title1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
                 .andDo(print());
 
-        verify(postService).getAllPosts();
+        verify(postService).getPosts(null, 2);
     }
 
     @Test
@@ -0,0 +1,61 @@
+package jsh.board.post;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.repository.PostRepository;
+import jsh.board.service.PostPurger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostPurgerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("댓글을 batch 크기씩 모두 지우고 sketch를 지운 뒤 게시글 행을 지운다")
+    void purgeDeletesCommentsInBatchesThenPost() {
+        // given
+        PostPurger purger = new PostPurger(postRepository, meterRegistry, 2, 0, 10);
+        when(postRepository.findDeletedIds(10)).thenReturn(List.of(7L));
+        when(postRepository.deleteCommentsBatch(7L, 2)).thenReturn(2, 2, 1);
+        when(postRepository.deleteMarkedPost(7L)).thenReturn(1);
+
+        // when
+        purger.purge();
+
+        // then
+        InOrder inOrder = inOrder(postRepository);
+        inOrder.verify(postRepository, times(3)).deleteCommentsBatch(7L, 2);
+        inOrder.verify(postRepository).deleteViewerSketch(7L);
+        inOrder.verify(postRepository).deleteMarkedPost(7L);
+        assertThat(meterRegistry.get("board.post_purge.deleted").tag("table", "comment").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("board.post_purge.deleted").tag("table", "post").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글이 없으면 아무것도 지우지 않는다")
+    void purgeWithoutDeletedPosts() {
+        // given
+        PostPurger purger = new PostPurger(postRepository, meterRegistry, 2, 0, 10);
+        when(postRepository.findDeletedIds(10)).thenReturn(List.of());
+
+        // when
+        purger.purge();
+
+        // then
+        verify(postRepository, never()).deleteCommentsBatch(anyLong(), anyInt());
+        verify(postRepository, never()).deleteMarkedPost(anyLong());
+    }
+}
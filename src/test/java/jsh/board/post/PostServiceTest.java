@@ -1,33 +1,52 @@
 package jsh.board.post;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.PostCache;
+import jsh.board.cache.PostCacheProperties;
 import jsh.board.domain.Member;
 import jsh.board.domain.Post;
 import jsh.board.domain.Role;
 import jsh.board.dto.PostDto;
+import jsh.board.event.PostUpdatedEvent;
 import jsh.board.exception.InvalidCredentialsException;
+import jsh.board.exception.InvalidRequestException;
 import jsh.board.exception.ResourceNotFoundException;
 import jsh.board.exception.UnauthorizedOperationException;
+import jsh.board.jwt.MemberPrincipal;
 import jsh.board.repository.MemberRepository;
 import jsh.board.repository.PostRepository;
+import jsh.board.repository.PostSummary;
+import jsh.board.service.CurrentMemberResolver;
 import jsh.board.service.PostService;
+import jsh.board.service.UniqueViewerService;
+import jsh.board.service.ViewCountService;
+import jsh.board.support.SingleFlight;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,15 +57,31 @@ public class PostServiceTest {
 
     @Mock
     private PostRepository postRepository;
+    // 실제 resolver가 인증 주체의 회원 ID로 참조를 만드는지 확인하기 위해 mock 저장소를 직접 연결합니다.
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    @Spy
+    private CurrentMemberResolver currentMemberResolver = new CurrentMemberResolver(memberRepository);
     @Mock
-    private MemberRepository memberRepository;
+    private ViewCountService viewCountService;
+    @Mock
+    private UniqueViewerService uniqueViewerService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private PostCache postCache = new PostCache(
+            new PostCacheProperties(100, Duration.ofMinutes(10)),
+            new SingleFlight<>("post", new SimpleMeterRegistry()),
+            new SimpleMeterRegistry());
 
     private static final String EMAIL = "writer@example.com";
 
-    private void authenticate(String email) {
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private void authenticate(Member member) {
+        MemberPrincipal principal = new MemberPrincipal(member.getId(), member.getEmail(), member.getUsername(),
+                member.getRole(), member.getAuthVersion(), null, null);
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        GrantedAuthority authority = () -> "ROLE_USER";
-        context.setAuthentication(new UsernamePasswordAuthenticationToken(email, "password", List.of(authority)));
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
         SecurityContextHolder.setContext(context);
     }
 
@@ -78,17 +113,18 @@ public class PostServiceTest {
                 .build();
         ReflectionTestUtils.setField(savedPost, "id", 1L);
 
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(memberRepository.getReferenceById(10L)).thenReturn(author);
         when(postRepository.save(any(Post.class))).thenReturn(savedPost);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
             Long createdPost = postService.createPost(request);
 
             // then
             Assertions.assertThat(createdPost).isEqualTo(savedPost.getId());
-            verify(memberRepository, times(1)).findByEmail(EMAIL);
+            verify(memberRepository, times(1)).getReferenceById(10L);
+            verify(memberRepository, never()).findByEmail(any());
             verify(postRepository, times(1)).save(any(Post.class));
         } finally {
             clearAuthentication();
@@ -118,6 +154,68 @@ public class PostServiceTest {
         verify(postRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("게시글 조회 시 아직 DB에 반영되지 않은 조회수와 순 방문자 수를 함께 반환한다.")
+    void getPostById_withPendingViews() {
+        // given
+        Post post = Post.builder()
+                .title("title")
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+        post.setViewCount(10);
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(viewCountService.pendingOf(1L)).thenReturn(3L);
+        when(uniqueViewerService.estimate(1L)).thenReturn(2L);
+
+        // when
+        PostDto.Response responseDto = postService.findPostById(1L);
+
+        // then
+        Assertions.assertThat(responseDto.viewCount()).isEqualTo(13);
+        Assertions.assertThat(responseDto.uniqueViewerCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 게시글을 다시 조회하면 캐시에서 반환하고, 수정되면 캐시를 비운다")
+    void getPostById_cached() {
+        // given
+        Member author = createMember(EMAIL, 10L);
+        Post post = Post.builder()
+                .title("title")
+                .content("content")
+                .author(author)
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        // 벌크 UPDATE가 DB에 반영된 상황을 흉내 냅니다.
+        when(postRepository.updateByIdAndAuthorId(eq(1L), eq(10L), eq("edited title"), eq("edited content"), any()))
+                .thenAnswer(invocation -> {
+                    post.update("edited title", "edited content");
+                    return 1;
+                });
+
+        // when
+        postService.findPostById(1L);
+        postService.findPostById(1L);
+
+        authenticate(author);
+        try {
+            postService.updatePost(1L, new PostDto.UpdateRequest("edited title", "edited content"));
+        } finally {
+            clearAuthentication();
+        }
+        PostDto.Response responseDto = postService.findPostById(1L);
+
+        // then
+        Assertions.assertThat(responseDto.title()).isEqualTo("edited title");
+        verify(postCache, times(1)).invalidate(1L);
+        // 최초 조회 1회 + 캐시 무효화 후 재조회 1회 (수정은 게시글을 읽지 않음)
+        verify(postRepository, times(2)).findById(1L);
+    }
+
     @Test
     @DisplayName("ID로 게시글 조회 요청이 들어오면, 해당 게시글 DTO를 반환한다. - fail")
     void getPostById_fail() {
@@ -133,58 +231,87 @@ public class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 전체 조회 요청이 들어오면, 모든 게시글을 리스트로 반환")
-    void getAllPosts() {
+    @DisplayName("게시글 목록 조회 시 size + 1건을 조회해 다음 페이지 커서를 만든다")
+    void getPosts_firstPage() {
         // given
-        Post post1 = Post.builder()
-                .title("title1")
-                .content("content1")
-                .build();
-        ReflectionTestUtils.setField(post1, "id", 1L);
+        LocalDateTime now = LocalDateTime.now();
+        PostSummary post1 = summary(3L, "title3", now);
+        PostSummary post2 = summary(2L, "title2", now.minusMinutes(1));
+        PostSummary post3 = summary(1L, "title1", now.minusMinutes(2));
 
-        Post post2 = Post.builder()
-                .title("title2")
-                .content("content2")
-                .build();
-        ReflectionTestUtils.setField(post2, "id", 2L);
+        when(postRepository.findFirstPage(PageRequest.of(0, 3))).thenReturn(List.of(post1, post2, post3));
+
+        // when
+        PostDto.PageResponse page = postService.getPosts(null, 2);
+
+        // then
+        Assertions.assertThat(page.posts()).hasSize(2);
+        Assertions.assertThat(page.posts().get(0).excerpt()).isEqualTo("excerpt");
+        Assertions.assertThat(page.hasNext()).isTrue();
+
+        PostDto.Cursor cursor = PostDto.Cursor.decode(page.nextCursor());
+        Assertions.assertThat(cursor.id()).isEqualTo(2L);
+        Assertions.assertThat(cursor.createdTime()).isEqualTo(post2.getCreatedTime());
+    }
 
-        when(postRepository.findAll()).thenReturn(List.of(post1, post2));
+    @Test
+    @DisplayName("커서가 주어지면 커서 이후의 게시글을 조회하고, 마지막 페이지에는 커서가 없다")
+    void getPosts_afterCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PostSummary post = summary(1L, "title1", now.minusMinutes(2));
+        String cursor = new PostDto.Cursor(now.minusMinutes(1), 2L).encode();
+
+        when(postRepository.findPageAfter(now.minusMinutes(1), 2L, PageRequest.of(0, 3))).thenReturn(List.of(post));
 
         // when
-        List<PostDto.Response> postList = postService.getAllPosts();
+        PostDto.PageResponse page = postService.getPosts(cursor, 2);
 
         // then
-        Assertions.assertThat(postList).hasSize(2);
+        Assertions.assertThat(page.posts()).hasSize(1);
+        Assertions.assertThat(page.hasNext()).isFalse();
+        Assertions.assertThat(page.nextCursor()).isNull();
     }
 
     @Test
-    @DisplayName("게시글 수정 요청이 들어오면, 해당 게시글의 내용을 새로운 내용으로 대체")
+    @DisplayName("잘못된 커서로 조회하면 예외 발생")
+    void getPosts_invalidCursor() {
+        assertThatThrownBy(() -> postService.getPosts("not-a-cursor", 20))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private PostSummary summary(long id, String title, LocalDateTime createdTime) {
+        return projectionFactory.createProjection(PostSummary.class, Map.of(
+                "id", id,
+                "title", title,
+                "excerpt", "excerpt",
+                "viewCount", 0,
+                "commentCount", 0,
+                "createdTime", createdTime
+        ));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 요청이 들어오면, 게시글을 읽지 않고 작성자 조건을 건 UPDATE 한 번으로 수정한다")
     void updatePost() {
         // given
         Member author = createMember(EMAIL, 10L);
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
-                .author(author)
-                .build();
-        ReflectionTestUtils.setField(post, "id", 1L);
-
         PostDto.UpdateRequest request = new PostDto.UpdateRequest("edited title", "edited content");
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(postRepository.updateByIdAndAuthorId(eq(1L), eq(10L), eq("edited title"), eq("edited content"), any()))
+                .thenReturn(1);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
             postService.updatePost(1L, request);
 
             // then
-            Assertions.assertThat(post.getTitle()).isEqualTo("edited title");
-            Assertions.assertThat(post.getContent()).isEqualTo("edited content");
-
-            verify(postRepository, times(1)).findById(1L);
-            verify(memberRepository, times(1)).findByEmail(EMAIL);
+            verify(postRepository, never()).findById(any());
+            verify(postRepository, never()).existsById(any());
+            verifyNoInteractions(memberRepository);
+            verify(postCache, times(1)).invalidate(1L);
+            verify(eventPublisher).publishEvent(new PostUpdatedEvent(1L, "edited title", "edited content"));
         } finally {
             clearAuthentication();
         }
@@ -193,54 +320,76 @@ public class PostServiceTest {
     @Test
     @DisplayName("작성자가 아니면 게시글 수정 시 예외 발생")
     void updatePost_Unauthorized() {
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
-                .author(Member.builder()
-                        .email("other@example.com")
-                        .password("encoded")
-                        .username("other")
-                        .role(Role.USER)
-                        .build())
-                .build();
-        post.getAuthor().setId(99L);
+        Member other = createMember("other@example.com", 99L);
+
+        when(postRepository.updateByIdAndAuthorId(eq(1L), eq(99L), any(), any(), any())).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(true);
+
+        authenticate(other);
+        try {
+            assertThatThrownBy(() -> postService.updatePost(1L, new PostDto.UpdateRequest("t", "c")))
+                    .isInstanceOf(UnauthorizedOperationException.class);
+            verify(eventPublisher, never()).publishEvent(any());
+        } finally {
+            clearAuthentication();
+        }
+    }
 
+    @Test
+    @DisplayName("없는 게시글을 수정하면 404 예외 발생")
+    void updatePost_NotFound() {
         Member author = createMember(EMAIL, 10L);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(postRepository.updateByIdAndAuthorId(eq(1L), eq(10L), any(), any(), any())).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(false);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             assertThatThrownBy(() -> postService.updatePost(1L, new PostDto.UpdateRequest("t", "c")))
-                    .isInstanceOf(UnauthorizedOperationException.class);
+                    .isInstanceOf(ResourceNotFoundException.class);
         } finally {
             clearAuthentication();
         }
     }
 
     @Test
-    @DisplayName("게시글 삭제 요청이 들어오면, 해당 게시글을 삭제")
+    @DisplayName("게시글 삭제 요청이 들어오면, 댓글을 읽거나 지우지 않고 삭제 표시만 한다")
     void deletePost() {
         // given
         Member author = createMember(EMAIL, 10L);
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
-                .author(author)
-                .build();
-        ReflectionTestUtils.setField(post, "id", 1L);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(author));
+        when(postRepository.softDeleteByIdAndAuthorId(eq(1L), eq(10L), any())).thenReturn(1);
 
-        authenticate(EMAIL);
+        authenticate(author);
         try {
             // when
             postService.deletePost(1L);
 
             // then
-            verify(postRepository, times(1)).delete(post);
+            verify(postRepository, times(1)).softDeleteByIdAndAuthorId(eq(1L), eq(10L), any());
+            verify(postRepository, never()).findById(any());
+            verify(postRepository, never()).delete(any());
+            verify(postCache, times(1)).invalidate(1L);
+            verify(viewCountService, times(1)).discard(1L);
+            verify(uniqueViewerService, times(1)).discard(1L);
+        } finally {
+            clearAuthentication();
+        }
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 게시글 삭제 시 예외 발생")
+    void deletePost_Unauthorized() {
+        Member other = createMember("other@example.com", 99L);
+
+        when(postRepository.softDeleteByIdAndAuthorId(eq(1L), eq(99L), any())).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(true);
+
+        authenticate(other);
+        try {
+            assertThatThrownBy(() -> postService.deletePost(1L))
+                    .isInstanceOf(UnauthorizedOperationException.class);
+            verify(viewCountService, never()).discard(1L);
         } finally {
             clearAuthentication();
         }
@@ -0,0 +1,91 @@
+package jsh.board.post;
+
+import jsh.board.cache.PostCache;
+import jsh.board.repository.PostRepository;
+import jsh.board.service.ViewCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ViewCountServiceTest {
+
+    @InjectMocks
+    private ViewCountService viewCountService;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostCache postCache;
+
+    @Test
+    @DisplayName("조회수는 메모리에 누적되고 flush 시 게시글별 증가분으로 한 번에 반영된다")
+    void flush_appliesDeltas() {
+        // given
+        viewCountService.increase(1L);
+        viewCountService.increase(1L);
+        viewCountService.increase(2L);
+        assertThat(viewCountService.pendingOf(1L)).isEqualTo(2L);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(postRepository, times(1)).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+        verify(postCache).addFlushedViews(1L, 2L);
+        verify(postCache).addFlushedViews(2L, 1L);
+        verify(postCache, never()).invalidate(any());
+        assertThat(viewCountService.pendingOf(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("증가분이 없으면 DB에 접근하지 않는다")
+    void flush_nothingPending() {
+        viewCountService.flush();
+
+        verify(postRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 다시 쌓아 다음 flush에서 재시도한다")
+    void flush_failure_keepsDeltas() {
+        // given
+        viewCountService.increase(1L);
+        doThrow(new RuntimeException("db down")).when(postRepository).addViewCounts(anyMap());
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertThat(viewCountService.pendingOf(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 조회가 없던 게시글은 버퍼에서 제거된다")
+    void flush_removesIdlePosts() {
+        // given
+        viewCountService.increase(1L);
+        viewCountService.flush();
+        Map<?, ?> pendingViews = (Map<?, ?>) ReflectionTestUtils.getField(viewCountService, "pendingViews");
+        assertThat(pendingViews).containsKey(1L);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertThat(pendingViews).isEmpty();
+        viewCountService.increase(1L);
+        assertThat(viewCountService.pendingOf(1L)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,76 @@
+package jsh.board.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    @Test
+    @DisplayName("한글은 2-gram, 그 외 문자는 소문자 단어로 토큰화한다")
+    void tokenize() {
+        List<String> tokens = Tokenizer.tokenize("Spring 게시판에서, JPA 글");
+
+        assertThat(tokens).containsExactly("spring", "게시", "시판", "판에", "에서", "jpa", "글");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 본문도 검색어의 2-gram으로 찾고, 제목에 있는 문서를 더 높게 평가한다")
+    void searchRanksTitleMatchesHigher() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "일상 이야기", "오늘은 게시판에서 캐시를 공부했다");
+        index.put(2L, "게시판 캐시 정리", "Caffeine으로 게시판 조회를 빠르게");
+        index.put(3L, "점심 메뉴", "김치찌개");
+
+        // when
+        List<SearchHit> hits = index.search("게시판 캐시", 10);
+
+        // then
+        assertThat(hits).extracting(SearchHit::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정하면 예전 단어로는 찾을 수 없고, 삭제하면 결과에서 빠진다")
+    void updateAndRemove() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "spring boot", "jpa");
+        index.put(2L, "spring", "security");
+
+        // when
+        index.put(1L, "kotlin", "coroutine");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("spring", 10)).isEmpty();
+        assertThat(index.search("kotlin", 10)).extracting(SearchHit::postId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순서가 뒤섞인 추가/삭제가 압축 이후에도 유지된다")
+    void compactionKeepsLivePostings() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 200; id++) {
+            index.put(id, "spring", "post " + id);
+        }
+
+        // when - 기존 문서를 다시 색인하거나 지워 pending이 압축 기준을 넘도록 합니다.
+        for (long id = 1; id <= 200; id += 2) {
+            index.remove(id);
+        }
+        for (long id = 2; id <= 100; id += 2) {
+            index.put(id, "spring", "edited");
+        }
+
+        // then
+        List<SearchHit> hits = index.search("spring", 200);
+        assertThat(hits).hasSize(100);
+        assertThat(hits).allMatch(hit -> hit.postId() % 2 == 0);
+    }
+}
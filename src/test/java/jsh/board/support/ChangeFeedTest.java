@@ -0,0 +1,101 @@
+package jsh.board.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeFeedTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private record Row(Long id, Instant createdAt) {}
+
+    // 커밋된(보이는) 행만 담는 테이블
+    private final List<Row> table = new ArrayList<>();
+    private final List<Instant> queriedFrom = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(START);
+
+    private final ChangeFeed<Row> feed = new ChangeFeed<>(
+            () -> List.copyOf(table),
+            from -> {
+                queriedFrom.add(from);
+                return table.stream().filter(row -> !row.createdAt().isBefore(from)).toList();
+            },
+            Row::id, Row::createdAt, clock);
+
+    @Test
+    @DisplayName("첫 동기화는 전체를 읽고, 이후에는 직전 동기화 시각 - WINDOW 이후 생성된 행만 읽는다")
+    void pollsByCreationTime() {
+        // given
+        table.add(new Row(1L, START.minusSeconds(600)));
+
+        // when
+        List<Row> first = feed.poll();
+        clock.advance(Duration.ofSeconds(10));
+        List<Row> second = feed.poll();
+
+        // then
+        assertThat(first).extracting(Row::id).containsExactly(1L);
+        assertThat(second).isEmpty();
+        assertThat(queriedFrom).containsExactly(START.minus(ChangeFeed.WINDOW));
+    }
+
+    @Test
+    @DisplayName("ID가 작은 행이 늦게 커밋되어도 놓치지 않고, 이미 돌려준 행은 다시 돌려주지 않는다")
+    void lateCommittedRowIsNotSkipped() {
+        // given - 1번, 2번 행이 거의 동시에 만들어졌지만 2번만 먼저 커밋되었습니다.
+        feed.poll();
+        clock.advance(Duration.ofSeconds(5));
+        Row early = new Row(1L, clock.instant());
+        Row committedFirst = new Row(2L, clock.instant());
+        table.add(committedFirst);
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(feed.poll()).containsExactly(committedFirst);
+
+        // when - 1번 행이 WINDOW 안에서 늦게 커밋됩니다.
+        table.add(early);
+        clock.advance(Duration.ofSeconds(10));
+        List<Row> polled = feed.poll();
+
+        // then
+        assertThat(polled).containsExactly(early);
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(feed.poll()).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jsh.board.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자가 여러 번 조회해도 한 명으로 추정한다")
+    void duplicatesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer(Hashing.hash64("member:1"));
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("10만 명의 방문자를 오차 5% 이내로 추정한다")
+    void estimatesLargeCardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer(Hashing.hash64("member:" + i));
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("직렬화한 레지스터를 병합하면 합집합의 크기를 추정한다")
+    void mergeEstimatesUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        for (int i = 0; i < 6_000; i++) {
+            left.offer(Hashing.hash64("viewer:" + i));
+        }
+        for (int i = 4_000; i < 10_000; i++) {
+            right.offer(Hashing.hash64("viewer:" + i));
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(left.toBytes());
+        restored.merge(right.toBytes());
+
+        assertThat(restored.toBytes()).hasSize(HyperLogLog.REGISTER_COUNT);
+        assertThat((double) restored.estimate()).isCloseTo(10_000, within(500.0));
+    }
+}
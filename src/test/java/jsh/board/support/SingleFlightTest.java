@@ -0,0 +1,84 @@
+package jsh.board.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    @DisplayName("같은 key의 동시 요청은 한 번만 로드하고 결과를 공유한다")
+    void concurrentRequestsShareOneLoad() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "post-1";
+                })));
+            }
+
+            // 모든 호출자가 진행 중인 로드에 합류할 때까지 기다린 뒤 로드를 끝냅니다.
+            while (meterRegistry.counter("board.singleflight.coalesced", "name", "test").count() < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로드가 끝나면 다음 요청은 새로 로드한다")
+    void completedLoadIsNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("로드 중 발생한 예외는 그대로 전달된다")
+    void loaderExceptionIsPropagated() {
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        })).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package jsh.board.trending;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jsh.board.cache.PostCache;
+import jsh.board.cache.PostCacheProperties;
+import jsh.board.dto.PostDto;
+import jsh.board.repository.PostRepository;
+import jsh.board.repository.PostSummary;
+import jsh.board.support.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TrendingServiceTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        PostCache postCache = new PostCache(
+                new PostCacheProperties(100, Duration.ofMinutes(10)),
+                new SingleFlight<>("post", new SimpleMeterRegistry()),
+                new SimpleMeterRegistry());
+        postCache.get(1L, id -> new PostDto.Response(id, "cached title", "content", 0, 0, 0, null, null));
+
+        trendingService = new TrendingService(
+                new TrendingProperties(2, Duration.ofHours(1), 1, 5), postCache, postRepository, clock);
+    }
+
+    @Test
+    @DisplayName("점수 순으로 상위 K개만 유지하고, 캐시에 있던 제목을 함께 반환한다")
+    void keepsTopK() {
+        // given
+        trendingService.recordView(1L);
+        trendingService.recordView(1L);
+        trendingService.recordComment(2L);
+        trendingService.recordView(3L);
+
+        // when & then
+        assertThat(trendingService.getTrending())
+                .extracting(PostDto.TrendingResponse::id)
+                .containsExactly(2L, 1L);
+        assertThat(trendingService.getTrending().get(1).title()).isEqualTo("cached title");
+    }
+
+    @Test
+    @DisplayName("캐시에 없던 게시글의 제목은 조회 시 한 번만 DB에서 채운다")
+    void fillsMissingTitlesOnce() {
+        // given - 2번 게시글은 캐시에 없고 댓글만 받았습니다.
+        PostSummary summary = mock(PostSummary.class);
+        when(summary.getId()).thenReturn(2L);
+        when(summary.getTitle()).thenReturn("db title");
+        when(postRepository.findSummariesByIdIn(List.of(2L))).thenReturn(List.of(summary));
+        trendingService.recordComment(2L);
+        trendingService.recordView(1L);
+
+        // when
+        trendingService.getTrending();
+        List<PostDto.TrendingResponse> trending = trendingService.getTrending();
+
+        // then
+        assertThat(trending).extracting(PostDto.TrendingResponse::title).containsExactly("db title", "cached title");
+        verify(postRepository, times(1)).findSummariesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("반감기마다 점수가 절반으로 줄어, 최근 활동이 예전 활동을 앞선다")
+    void scoresDecayOverTime() {
+        // given
+        trendingService.recordComment(1L);
+        clock.advance(Duration.ofHours(1));
+
+        // when
+        trendingService.recordView(2L);
+        trendingService.recordView(2L);
+        trendingService.recordView(2L);
+
+        // then
+        assertThat(trendingService.getTrending())
+                .extracting(PostDto.TrendingResponse::id)
+                .containsExactly(2L, 1L);
+        assertThat(trendingService.getTrending().get(1).score()).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("상위 게시글이 삭제되면 남은 게시글로 다시 채우고, 재조정 후에도 순위가 유지된다")
+    void removeRefillsTopK() {
+        // given
+        trendingService.recordComment(1L);
+        trendingService.recordView(2L);
+        trendingService.recordView(2L);
+        trendingService.recordView(3L);
+
+        // when
+        trendingService.remove(1L);
+        clock.advance(Duration.ofMinutes(30));
+        trendingService.rescale();
+
+        // then
+        assertThat(trendingService.getTrending())
+                .extracting(PostDto.TrendingResponse::id)
+                .containsExactly(2L, 3L);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}